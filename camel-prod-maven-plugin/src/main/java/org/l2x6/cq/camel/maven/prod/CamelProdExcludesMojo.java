@@ -61,6 +61,7 @@ import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.repository.RemoteRepository;
 import org.l2x6.cq.common.CqCommonUtils;
 import org.l2x6.cq.common.OnFailure;
+import org.l2x6.cq.common.ParallelTasks;
 import org.l2x6.pom.tuner.MavenSourceTree;
 import org.l2x6.pom.tuner.MavenSourceTree.ActiveProfiles;
 import org.l2x6.pom.tuner.PomTransformer;
@@ -216,6 +217,15 @@ public class CamelProdExcludesMojo extends AbstractMojo {
 
     Map<String, VersionStyle> versionStylesByPath;
 
+    /**
+     * The number of threads to use for transforming the {@code pom.xml} files of individual modules. Values less than
+     * {@code 1} mean the number of available processors.
+     *
+     * @since 4.26.1
+     */
+    @Parameter(property = "cq.parallelism", defaultValue = "0")
+    int parallelism;
+
     /**
      * @since 2.11.0
      */
@@ -340,7 +350,7 @@ public class CamelProdExcludesMojo extends AbstractMojo {
         });
 
         /* Remove all own test deps and any camel-spring* deps in the copy */
-        fullTree.getModulesByGa().values().forEach(module -> {
+        ParallelTasks.forEach(fullTree.getModulesByGa().values(), parallelism, (module, log) -> {
             final List<Transformation> transformations = new ArrayList<>();
 
             module.getProfiles().stream()
@@ -353,11 +363,12 @@ public class CamelProdExcludesMojo extends AbstractMojo {
                     });
 
             if (!transformations.isEmpty()) {
+                log.accept("Removing test dependencies from the copy of " + module.getPomPath());
                 PomTransformer.builder().charset(charset)
                         .transformers(transformations)
                         .transform(originalFullTreeCopyDir.resolve(module.getPomPath()));
             }
-        });
+        }, getLog()::debug);
 
         /* Re-read the copy after the above changes */
         final MavenSourceTree originalFullTreeCopy = MavenSourceTree.of(originalFullTreeCopyDir.resolve("pom.xml"), charset,
@@ -396,7 +407,7 @@ public class CamelProdExcludesMojo extends AbstractMojo {
 
         /* Replace ${project.version} with ${camel-community-version} where necessary */
         final MavenSourceTree reducedTree = MavenSourceTree.of(rootPomPath, charset, Dependency::isVirtual);
-        reducedTree.getModulesByGa().values().forEach(module -> {
+        ParallelTasks.forEach(reducedTree.getModulesByGa().values(), parallelism, (module, log) -> {
             final List<Transformation> transformations = new ArrayList<>();
 
             for (Profile profile : module.getProfiles()) {
@@ -426,11 +437,12 @@ public class CamelProdExcludesMojo extends AbstractMojo {
                 }
             }
             if (!transformations.isEmpty()) {
+                log.accept("Updating versions in " + module.getPomPath());
                 PomTransformer.builder().charset(charset)
                         .transformers(transformations)
                         .transform(workRoot.resolve(module.getPomPath()));
             }
-        });
+        }, getLog()::debug);
 
         Stream.of("parent/pom.xml").forEach(relPath -> {
             PomTransformer.builder().charset(charset)
@@ -57,6 +57,7 @@ import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.repository.RemoteRepository;
 import org.l2x6.cq.common.CqCommonUtils;
 import org.l2x6.cq.common.OnFailure;
+import org.l2x6.cq.common.ParallelTasks;
 import org.l2x6.pom.tuner.MavenSourceTree;
 import org.l2x6.pom.tuner.MavenSourceTree.ActiveProfiles;
 import org.l2x6.pom.tuner.PomTransformer;
@@ -212,6 +213,15 @@ public class CamelSpringBootProdExcludesMojo extends AbstractMojo {
 
     Map<String, VersionStyle> versionStylesByPath;
 
+    /**
+     * The number of threads to use for transforming the {@code pom.xml} files of individual modules. Values less than
+     * {@code 1} mean the number of available processors.
+     *
+     * @since 4.26.1
+     */
+    @Parameter(property = "csb.parallelism", defaultValue = "0")
+    int parallelism;
+
     /**
      * @since 2.19.1
      */
@@ -296,7 +306,7 @@ public class CamelSpringBootProdExcludesMojo extends AbstractMojo {
                 additionalFiles);
 
         /* Remove all own test deps and any camel-spring* deps in the copy */
-        fullTree.getModulesByGa().values().forEach(module -> {
+        ParallelTasks.forEach(fullTree.getModulesByGa().values(), parallelism, (module, log) -> {
             final List<Transformation> transformations = new ArrayList<>();
 
             module.getProfiles().stream()
@@ -310,11 +320,12 @@ public class CamelSpringBootProdExcludesMojo extends AbstractMojo {
                     });
 
             if (!transformations.isEmpty()) {
+                log.accept("Removing test dependencies from the copy of " + module.getPomPath());
                 PomTransformer.builder().charset(charset)
                         .transformers(transformations)
                         .transform(originalFullTreeCopyDir.resolve(module.getPomPath()));
             }
-        });
+        }, getLog()::debug);
 
         /* Re-read the copy after the above changes */
         final MavenSourceTree originalFullTreeCopy = MavenSourceTree.of(originalFullTreeCopyDir.resolve("pom.xml"), charset,
@@ -353,7 +364,7 @@ public class CamelSpringBootProdExcludesMojo extends AbstractMojo {
 
         /* Replace ${project.version} with ${camel-spring-boot-community.version} where necessary */
         final MavenSourceTree reducedTree = MavenSourceTree.of(rootPomPath, charset, Dependency::isVirtual);
-        reducedTree.getModulesByGa().values().forEach(module -> {
+        ParallelTasks.forEach(reducedTree.getModulesByGa().values(), parallelism, (module, log) -> {
             final List<Transformation> transformations = new ArrayList<>();
 
             for (Profile profile : module.getProfiles()) {
@@ -401,11 +412,12 @@ public class CamelSpringBootProdExcludesMojo extends AbstractMojo {
                 }
             }
             if (!transformations.isEmpty()) {
+                log.accept("Updating versions in " + module.getPomPath());
                 PomTransformer.builder().charset(charset)
                         .transformers(transformations)
                         .transform(workRoot.resolve(module.getPomPath()));
             }
-        });
+        }, getLog()::debug);
 
         if (isChecking() && onCheckFailure != OnFailure.IGNORE) {
             final MavenSourceTree finalTree = MavenSourceTree.of(rootPomPath, charset, Dependency::isVirtual);
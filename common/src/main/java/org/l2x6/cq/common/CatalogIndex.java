@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2020 CQ Maven Plugin
+ * project contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.l2x6.cq.common;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.apache.camel.tooling.model.Kind;
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * The names and the most often used fields of all models available in a Camel or Camel Quarkus catalog. An index is
+ * much cheaper to load than the JSON models it was built from, so it is cached on disk by the checksum of the catalog
+ * jar and the full models are only parsed when some other field is needed.
+ *
+ * @since 4.26.1
+ */
+public class CatalogIndex {
+    private static final int MAGIC = 0x43514349; // CQCI
+    private static final int FORMAT_VERSION = 1;
+
+    private final Map<Kind, Map<String, Entry>> entries;
+
+    CatalogIndex(List<Entry> entries) {
+        final Map<Kind, Map<String, Entry>> byKind = new EnumMap<>(Kind.class);
+        for (Entry entry : entries) {
+            byKind.computeIfAbsent(entry.getKind(), k -> new LinkedHashMap<>()).put(entry.getName(), entry);
+        }
+        this.entries = byKind;
+    }
+
+    /**
+     * @param  kind the kind of models to return
+     * @return      the entries of the given {@code kind} in catalog order
+     */
+    public Stream<Entry> entries(Kind kind) {
+        return entries.getOrDefault(kind, Collections.emptyMap()).values().stream();
+    }
+
+    /**
+     * @param  kind the kind of the model to find
+     * @param  name the name of the model to find
+     * @return      the {@link Entry} having the given {@code kind} and {@code name} or an empty {@link Optional}
+     */
+    public Optional<Entry> entry(Kind kind, String name) {
+        return Optional.ofNullable(entries.getOrDefault(kind, Collections.emptyMap()).get(name));
+    }
+
+    /**
+     * Reads the index of the given {@code jar} from {@code indexDir} or builds it using the given {@code builder}
+     * and stores it in {@code indexDir} if there is no index for the current content of {@code jar} yet.
+     *
+     * @param  jar      the catalog jar
+     * @param  indexDir the directory where the indexes are cached; can be {@code null} to disable caching
+     * @param  builder  builds a new index out of the catalog models
+     * @param  log      where to report a failure to store the index; the index is returned anyway because the
+     *                  {@code indexDir} may be read-only
+     * @return          the index of the given {@code jar}
+     */
+    public static CatalogIndex load(Path jar, Path indexDir, Supplier<CatalogIndex> builder, Log log) {
+        if (indexDir == null) {
+            return builder.get();
+        }
+        final Path indexFile = indexDir.resolve(sha1(jar) + ".bin");
+        if (Files.isRegularFile(indexFile)) {
+            try {
+                return read(Files.readAllBytes(indexFile));
+            } catch (IOException | RuntimeException e) {
+                /* Corrupt or written by an incompatible version; rebuild it */
+            }
+        }
+        final CatalogIndex result = builder.get();
+        try {
+            OutputFiles.writeIfChanged(indexFile, result.toBytes());
+        } catch (RuntimeException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Could not store the index of " + jar + " in " + indexFile, e);
+            }
+        }
+        return result;
+    }
+
+    static String sha1(Path file) {
+        try (InputStream in = Files.newInputStream(file)) {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            final byte[] buffer = new byte[8192];
+            int len;
+            while ((len = in.read(buffer)) >= 0) {
+                digest.update(buffer, 0, len);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read " + file, e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    byte[] toBytes() {
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            final List<Entry> all = new ArrayList<>();
+            entries.values().forEach(m -> all.addAll(m.values()));
+            out.writeInt(all.size());
+            for (Entry entry : all) {
+                out.writeUTF(entry.kind.name());
+                out.writeUTF(entry.name);
+                writeNullable(out, entry.title);
+                writeNullable(out, entry.firstVersion);
+                writeNullable(out, entry.label);
+                writeNullable(out, entry.artifactId);
+                writeNullable(out, entry.alternativeSchemes);
+                out.writeBoolean(entry.nativeSupported);
+                out.writeBoolean(entry.deprecated);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Could not serialize catalog index", e);
+        }
+        return buffer.toByteArray();
+    }
+
+    static CatalogIndex read(byte[] bytes) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                throw new IOException("Unexpected catalog index format");
+            }
+            final int size = in.readInt();
+            final List<Entry> entries = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                entries.add(new Entry(
+                        Kind.valueOf(in.readUTF()),
+                        in.readUTF(),
+                        readNullable(in),
+                        readNullable(in),
+                        readNullable(in),
+                        readNullable(in),
+                        readNullable(in),
+                        in.readBoolean(),
+                        in.readBoolean()));
+            }
+            return new CatalogIndex(entries);
+        }
+    }
+
+    static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    /**
+     * A subset of the fields of a catalog model.
+     */
+    public static class Entry {
+        private final Kind kind;
+        private final String name;
+        private final String title;
+        private final String firstVersion;
+        private final String label;
+        private final String artifactId;
+        private final String alternativeSchemes;
+        private final boolean nativeSupported;
+        private final boolean deprecated;
+
+        public Entry(Kind kind, String name, String title, String firstVersion, String label, String artifactId,
+                String alternativeSchemes, boolean nativeSupported, boolean deprecated) {
+            this.kind = kind;
+            this.name = name;
+            this.title = title;
+            this.firstVersion = firstVersion;
+            this.label = label;
+            this.artifactId = artifactId;
+            this.alternativeSchemes = alternativeSchemes;
+            this.nativeSupported = nativeSupported;
+            this.deprecated = deprecated;
+        }
+
+        public Kind getKind() {
+            return kind;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public String getFirstVersion() {
+            return firstVersion;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        /**
+         * @return the artifactId or {@code null} for models not tied to any artifact, such as EIPs
+         */
+        public String getArtifactId() {
+            return artifactId;
+        }
+
+        /**
+         * @return the alternative schemes of a component or {@code null}
+         */
+        public String getAlternativeSchemes() {
+            return alternativeSchemes;
+        }
+
+        public boolean isNativeSupported() {
+            return nativeSupported;
+        }
+
+        public boolean isDeprecated() {
+            return deprecated;
+        }
+
+        /**
+         * @return the same as {@link CqCatalog#isFirstScheme(org.apache.camel.tooling.model.ArtifactModel)} for the
+         *         model this {@link Entry} was created from
+         */
+        public boolean isFirstScheme() {
+            if (kind == Kind.component && alternativeSchemes != null && !alternativeSchemes.isEmpty()) {
+                return alternativeSchemes.equals(name) || alternativeSchemes.startsWith(name + ",");
+            }
+            return true;
+        }
+
+        public static Comparator<Entry> compareTitle() {
+            return (e1, e2) -> e1.getTitle().compareToIgnoreCase(e2.getTitle());
+        }
+
+        public static Comparator<Entry> compareArtifactId() {
+            return (e1, e2) -> e1.getArtifactId().compareTo(e2.getArtifactId());
+        }
+
+        @Override
+        public String toString() {
+            return kind + ":" + name;
+        }
+    }
+
+}
@@ -26,7 +26,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -41,6 +45,8 @@ import org.apache.camel.tooling.model.BaseModel;
 import org.apache.camel.tooling.model.ComponentModel;
 import org.apache.camel.tooling.model.EipModel;
 import org.apache.camel.tooling.model.Kind;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.plugin.logging.SystemStreamLog;
 import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.repository.RemoteRepository;
@@ -94,6 +100,8 @@ public class CqCatalog {
     private final DefaultCamelCatalog catalog;
     protected final Path baseDir;
     private Flavor flavor;
+    private Map<String, List<ArtifactModel<?>>> modelsByArtifactId;
+    private Map<ArtifactModel<?>, Integer> catalogPositions;
 
     public CqCatalog(Path baseDir, Flavor flavor) {
         super();
@@ -123,10 +131,43 @@ public class CqCatalog {
     }
 
     public Stream<ArtifactModel<?>> filterModels(String cqArtifactIdBase) {
-        List<String> camelArtifactIds = toCamelArtifactIdBase(cqArtifactIdBase);
-        return models()
-                .filter(SUPPORTED_CATALOG_MODEL_FILTER)
-                .filter(model -> camelArtifactIds.contains(model.getArtifactId()));
+        final List<String> camelArtifactIds = toCamelArtifactIdBase(cqArtifactIdBase);
+        final Map<String, List<ArtifactModel<?>>> modelsByArtifactId = modelsByArtifactId();
+        if (camelArtifactIds.size() == 1) {
+            return modelsByArtifactId.getOrDefault(camelArtifactIds.get(0), Collections.emptyList()).stream();
+        }
+        /* Multiple artifactIds: restore the catalog order across them */
+        return camelArtifactIds.stream()
+                .flatMap(artifactId -> modelsByArtifactId.getOrDefault(artifactId, Collections.emptyList()).stream())
+                .sorted(Comparator.comparingInt(catalogPositions::get));
+    }
+
+    /**
+     * Builds the supported models of this catalog grouped by artifactId on first access so that subsequent
+     * {@link #filterModels(String)} and {@link #primaryModel(String)} calls do not need to touch the underlying
+     * {@link DefaultCamelCatalog} anymore. Callers using this catalog from multiple threads should call this method
+     * before starting the threads.
+     *
+     * @return the supported models of this catalog grouped by artifactId; the {@link Map} and the {@link List}s
+     *         are unmodifiable
+     *
+     * @since  4.26.1
+     */
+    public synchronized Map<String, List<ArtifactModel<?>>> modelsByArtifactId() {
+        if (modelsByArtifactId == null) {
+            final Map<String, List<ArtifactModel<?>>> result = new LinkedHashMap<>();
+            final Map<ArtifactModel<?>, Integer> positions = new IdentityHashMap<>();
+            models()
+                    .filter(SUPPORTED_CATALOG_MODEL_FILTER)
+                    .forEach(model -> {
+                        positions.put(model, positions.size());
+                        result.computeIfAbsent(model.getArtifactId(), k -> new ArrayList<>()).add(model);
+                    });
+            result.replaceAll((artifactId, models) -> Collections.unmodifiableList(models));
+            catalogPositions = positions;
+            modelsByArtifactId = Collections.unmodifiableMap(result);
+        }
+        return modelsByArtifactId;
     }
 
     public List<ArtifactModel<?>> primaryModel(String cqArtifactIdBase) {
@@ -190,6 +231,63 @@ public class CqCatalog {
         return catalog.findNames(Kind.eip).stream().map(catalog::eipModel);
     }
 
+    /**
+     * Equivalent to {@code buildIndex(1)}.
+     *
+     * @return a new {@link CatalogIndex} of all component, data format, language, other and EIP models available in
+     *         this catalog
+     *
+     * @since  4.26.1
+     */
+    public CatalogIndex buildIndex() {
+        return buildIndex(1);
+    }
+
+    /**
+     * Loads the models of each kind in a separate task. {@link DefaultCamelCatalog} caches the models it has loaded
+     * in a plain {@link java.util.HashMap}, so each task uses its own copy of this catalog reading from the same
+     * {@link #baseDir}; reading the entries of a zip {@link FileSystem} from multiple threads is safe.
+     *
+     * @param  parallelism the number of threads to use; see {@link ParallelTasks#resolveParallelism(int)}
+     * @return             a new {@link CatalogIndex} of all component, data format, language, other and EIP models
+     *                     available in this catalog
+     *
+     * @since              4.26.1
+     */
+    public CatalogIndex buildIndex(int parallelism) {
+        final List<Kind> kinds = Stream.concat(kinds(), Stream.of(Kind.eip)).collect(Collectors.toList());
+        final List<CatalogIndex.Entry> entries = new ArrayList<>();
+        ParallelTasks.map(kinds, parallelism, kind -> (parallelism == 1 ? this : copy()).indexEntries(kind))
+                .forEach(entries::addAll);
+        return new CatalogIndex(entries);
+    }
+
+    CqCatalog copy() {
+        return baseDir == null ? new CqCatalog(flavor) : new CqCatalog(baseDir, flavor);
+    }
+
+    List<CatalogIndex.Entry> indexEntries(Kind kind) {
+        final List<CatalogIndex.Entry> entries = new ArrayList<>();
+        for (String name : findNames(kind)) {
+            final BaseModel<?> m = kind == Kind.eip ? catalog.eipModel(name) : model(kind, name);
+            if (m == null) {
+                continue;
+            }
+            final ArtifactModel<?> am = m instanceof ArtifactModel ? (ArtifactModel<?>) m : null;
+            entries.add(new CatalogIndex.Entry(
+                    kind,
+                    name,
+                    m.getTitle(),
+                    am != null ? am.getFirstVersion() : null,
+                    m.getLabel(),
+                    am != null ? am.getArtifactId() : null,
+                    m instanceof ComponentModel ? ((ComponentModel) m).getAlternativeSchemes() : null,
+                    m.isNativeSupported(),
+                    m.isDeprecated()));
+        }
+        return entries;
+    }
+
     public static Stream<Kind> kinds() {
         return Stream.of(Kind.values())
                 .filter(kind -> kind != Kind.eip && kind != Kind.model);
@@ -383,25 +481,98 @@ public class CqCatalog {
         return catalog.model(kind, name);
     }
 
+    /**
+     * A catalog loaded from a catalog jar.
+     * <p>
+     * Besides the full models available via the methods inherited from {@link CqCatalog}, it provides a
+     * {@link CatalogIndex} of the fields used most often via {@link #entries(Kind)} and {@link #entry(Kind, String)}.
+     * The index is built on first use and cached under {@value #INDEX_DIR} in the local Maven repository, so that
+     * subsequent runs against the same catalog jar do not need to parse any JSON models at all. If the local Maven
+     * repository is read-only, the index is built on every run.
+     */
     public static class GavCqCatalog extends CqCatalog implements AutoCloseable {
+        static final String INDEX_DIR = ".cache/cq-maven-plugin/catalog-index";
 
         private final FileSystem jarFileSystem;
+        private final Path jarPath;
+        private final Path indexDir;
+        private final int parallelism;
+        private final Log log;
+        private CatalogIndex index;
 
         public static GavCqCatalog open(Path localRepository, Flavor flavor, String version,
                 List<RemoteRepository> remoteRepositories, RepositorySystem repoSystem, RepositorySystemSession repoSession) {
+            return open(localRepository, flavor, version, remoteRepositories, repoSystem, repoSession, 1,
+                    new SystemStreamLog());
+        }
+
+        /**
+         * @param  localRepository    the local Maven repository
+         * @param  flavor             the flavor of the catalog to open
+         * @param  version            the version of the catalog to open
+         * @param  remoteRepositories the repositories to download the catalog jar from
+         * @param  repoSystem         the {@link RepositorySystem} to use for downloading the catalog jar
+         * @param  repoSession        the {@link RepositorySystemSession} to use for downloading the catalog jar
+         * @param  parallelism        the number of threads to use for building the {@link CatalogIndex}; see
+         *                            {@link ParallelTasks#resolveParallelism(int)}
+         * @param  log                where to report a failure to store the {@link CatalogIndex}
+         * @return                    a new {@link GavCqCatalog}
+         *
+         * @since                     4.26.1
+         */
+        public static GavCqCatalog open(Path localRepository, Flavor flavor, String version,
+                List<RemoteRepository> remoteRepositories, RepositorySystem repoSystem, RepositorySystemSession repoSession,
+                int parallelism, Log log) {
             final Path jarPath = CqCommonUtils.resolveJar(localRepository, flavor.getGroupId(), flavor.getArtifactId(), version,
                     remoteRepositories, repoSystem, repoSession);
             try {
                 final FileSystem fs = FileSystems.newFileSystem(jarPath, (ClassLoader) null);
-                return new GavCqCatalog(fs, flavor);
+                return new GavCqCatalog(fs, flavor, jarPath, localRepository.resolve(INDEX_DIR), parallelism, log);
             } catch (IOException e) {
                 throw new RuntimeException("Could not open file system " + jarPath, e);
             }
         }
 
-        GavCqCatalog(FileSystem jarFileSystem, Flavor flavor) {
+        GavCqCatalog(FileSystem jarFileSystem, Flavor flavor, Path jarPath, Path indexDir, int parallelism, Log log) {
             super(jarFileSystem.getRootDirectories().iterator().next(), flavor);
             this.jarFileSystem = jarFileSystem;
+            this.jarPath = jarPath;
+            this.indexDir = indexDir;
+            this.parallelism = parallelism;
+            this.log = log;
+        }
+
+        /**
+         * @return the {@link CatalogIndex} of this catalog, loaded or built on first access
+         *
+         * @since  4.26.1
+         */
+        public synchronized CatalogIndex index() {
+            if (index == null) {
+                index = CatalogIndex.load(jarPath, indexDir, () -> buildIndex(parallelism), log);
+            }
+            return index;
+        }
+
+        /**
+         * @param  kind the kind of models to return
+         * @return      the index entries of the given {@code kind} in catalog order
+         *
+         * @since       4.26.1
+         */
+        public Stream<CatalogIndex.Entry> entries(Kind kind) {
+            return index().entries(kind);
+        }
+
+        /**
+         * @param  kind the kind of the model to find
+         * @param  name the name of the model to find
+         * @return      the index entry having the given {@code kind} and {@code name} or an empty {@link Optional}
+         *
+         * @since       4.26.1
+         */
+        public Optional<CatalogIndex.Entry> entry(Kind kind, String name) {
+            return index().entry(kind, name);
         }
 
         @Override
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2020 CQ Maven Plugin
+ * project contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.l2x6.cq.common;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.SessionData;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.resolution.ArtifactDescriptorException;
+import org.eclipse.aether.resolution.ArtifactDescriptorRequest;
+
+/**
+ * A cache of the managed dependencies of BOMs, typically imported by many projects analyzed in a single build.
+ * <p>
+ * The cache is stored in the {@link RepositorySystemSession#getData()} of the current session so that it is shared by
+ * all mojo executions of the build. Only JDK and resolver API types are stored there, because different plugins load
+ * this class via different class loaders.
+ *
+ * @since 4.26.1
+ */
+public class ManagedDependenciesCache {
+    private static final String SESSION_DATA_KEY = ManagedDependenciesCache.class.getName() + ".managedDependencies";
+
+    private final Map<String, CompletableFuture<List<Dependency>>> items;
+    private final RepositorySystem repoSystem;
+    private final RepositorySystemSession repoSession;
+
+    @SuppressWarnings("unchecked")
+    public ManagedDependenciesCache(RepositorySystem repoSystem, RepositorySystemSession repoSession) {
+        this.repoSystem = repoSystem;
+        this.repoSession = repoSession;
+        /* SessionData.computeIfAbsent() is not available in the resolver versions of Maven older than 3.9 */
+        final SessionData data = repoSession.getData();
+        final Map<String, CompletableFuture<List<Dependency>>> newItems = new ConcurrentHashMap<>();
+        this.items = data.set(SESSION_DATA_KEY, null, newItems)
+                ? newItems
+                : (Map<String, CompletableFuture<List<Dependency>>>) data.get(SESSION_DATA_KEY);
+    }
+
+    /**
+     * Reads the descriptor of the given {@code bom} at most once per session. The descriptor is read outside of any
+     * lock, so that threads asking for other BOMs do not need to wait. A failed read is not cached.
+     *
+     * @param  bom                the BOM whose managed dependencies should be returned
+     * @param  remoteRepositories the repositories to resolve the {@code bom} from, if it is not cached yet
+     * @return                    the managed dependencies of the given {@code bom}
+     */
+    public List<Dependency> getManagedDependencies(Artifact bom, List<RemoteRepository> remoteRepositories) {
+        final String key = bom.toString();
+        CompletableFuture<List<Dependency>> future = items.get(key);
+        if (future == null) {
+            final CompletableFuture<List<Dependency>> newFuture = new CompletableFuture<>();
+            future = items.putIfAbsent(key, newFuture);
+            if (future == null) {
+                try {
+                    final List<Dependency> result = readManagedDependencies(bom, remoteRepositories);
+                    newFuture.complete(result);
+                    return result;
+                } catch (RuntimeException | Error e) {
+                    items.remove(key, newFuture);
+                    newFuture.completeExceptionally(e);
+                    throw e;
+                }
+            }
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    List<Dependency> readManagedDependencies(Artifact bom, List<RemoteRepository> remoteRepositories) {
+        final ArtifactDescriptorRequest descriptorRequest = new ArtifactDescriptorRequest();
+        descriptorRequest.setArtifact(bom);
+        descriptorRequest.setRepositories(remoteRepositories);
+        try {
+            return List.copyOf(repoSystem.readArtifactDescriptor(repoSession, descriptorRequest)
+                    .getManagedDependencies());
+        } catch (ArtifactDescriptorException e) {
+            throw new RuntimeException("Could not read the artifact descriptor of " + bom, e);
+        }
+    }
+
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2020 CQ Maven Plugin
+ * project contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.l2x6.cq.common;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Writes generated files only if their content has changed, so that the modification times of unchanged files are
+ * kept and the downstream tools relying on them have nothing to redo. The changed files are written to a temporary
+ * file in the same directory first and then moved to the destination atomically, so that no reader can see a
+ * partially written file. Instances count the changed and unchanged files they have seen and are safe to be used by
+ * multiple threads.
+ *
+ * @since 4.26.1
+ */
+public class OutputFiles {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final AtomicInteger changed = new AtomicInteger();
+    private final AtomicInteger unchanged = new AtomicInteger();
+
+    /**
+     * Renders some content via the given {@code render} and writes it to {@code path} if it is different from the
+     * current content of {@code path}.
+     *
+     * @param  path    the file to write
+     * @param  charset the encoding of the file
+     * @param  render  writes the new content of the file to the {@link Writer} passed to it
+     * @return         {@code true} if {@code path} was written; {@code false} if its content was the same already
+     */
+    public boolean write(Path path, Charset charset, Consumer<Writer> render) {
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream(BUFFER_SIZE);
+        try (Writer out = new OutputStreamWriter(buffer, charset)) {
+            render.accept(out);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not render " + path, e);
+        }
+        return write(path, buffer.toByteArray());
+    }
+
+    /**
+     * @param  path    the file to write
+     * @param  content the new content of the file
+     * @return         {@code true} if {@code path} was written; {@code false} if its content was the same already
+     */
+    public boolean write(Path path, byte[] content) {
+        final boolean result = writeIfChanged(path, content);
+        (result ? changed : unchanged).incrementAndGet();
+        return result;
+    }
+
+    /**
+     * @return the number of files written by this {@link OutputFiles}
+     */
+    public int getChanged() {
+        return changed.get();
+    }
+
+    /**
+     * @return the number of files not written by this {@link OutputFiles} because their content was up to date
+     */
+    public int getUnchanged() {
+        return unchanged.get();
+    }
+
+    /**
+     * @return a human readable summary of {@link #getChanged()} and {@link #getUnchanged()}
+     */
+    public String summary() {
+        return changed.get() + " changed, " + unchanged.get() + " unchanged";
+    }
+
+    /**
+     * Writes the given {@code content} to {@code path} atomically unless {@code path} has the same content already.
+     * If {@code path} is a symbolic link, the file it points to is written and the link is kept. The POSIX
+     * permissions of an existing file are kept; new files get the default permissions given by the umask.
+     *
+     * @param  path    the file to write
+     * @param  content the new content of the file
+     * @return         {@code true} if {@code path} was written; {@code false} if its content was the same already
+     */
+    public static boolean writeIfChanged(Path path, byte[] content) {
+        if (hasContent(path, content)) {
+            return false;
+        }
+        try {
+            final Path target = Files.isSymbolicLink(path) ? path.toRealPath() : path.toAbsolutePath();
+            final Path dir = target.getParent();
+            Files.createDirectories(dir);
+            /* Unlike Files.createTempFile() which always uses 0600, this honors the umask */
+            final Path tempFile = dir.resolve("." + target.getFileName() + "." + UUID.randomUUID() + ".tmp");
+            try {
+                Files.write(tempFile, content, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+                if (Files.exists(target)
+                        && target.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+                    Files.setPosixFilePermissions(tempFile, Files.getPosixFilePermissions(target));
+                }
+                try {
+                    Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Could not write to " + path, e);
+        }
+        return true;
+    }
+
+    /**
+     * Compares the given {@code content} with the content of {@code path} in a streaming manner without reading the
+     * whole file into memory. Files of a different size are not read at all.
+     *
+     * @param  path    the file to compare
+     * @param  content the expected content
+     * @return         {@code true} if {@code path} exists and has the given {@code content}; {@code false} otherwise
+     */
+    static boolean hasContent(Path path, byte[] content) {
+        if (!Files.isRegularFile(path)) {
+            return false;
+        }
+        try {
+            if (Files.size(path) != content.length) {
+                return false;
+            }
+            try (InputStream in = Files.newInputStream(path)) {
+                final byte[] buffer = new byte[Math.min(BUFFER_SIZE, Math.max(content.length, 1))];
+                int offset = 0;
+                int len;
+                while ((len = in.read(buffer)) >= 0) {
+                    if (offset + len > content.length
+                            || !Arrays.equals(buffer, 0, len, content, offset, offset + len)) {
+                        return false;
+                    }
+                    offset += len;
+                }
+                return offset == content.length;
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read " + path, e);
+        }
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2020 CQ Maven Plugin
+ * project contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.l2x6.cq.common;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Runs independent per-item tasks (typically per-module file transformations) on a bounded pool of worker threads.
+ * The results and the log messages produced by the tasks are always passed on in the iteration order of the input
+ * items, so that the output of a parallel run is the same as the output of a sequential one.
+ */
+public class ParallelTasks {
+
+    private ParallelTasks() {
+    }
+
+    /**
+     * @param  parallelism the requested number of threads
+     * @return             the given {@code parallelism} if it is greater than zero; otherwise the number of available
+     *                     processors
+     */
+    public static int resolveParallelism(int parallelism) {
+        return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Apply the given {@code action} to every element of {@code items} using up to {@code parallelism} threads.
+     * The {@code action} gets a per-item log sink as its second argument. The messages sent to it are buffered
+     * and passed to {@code log} in the iteration order of {@code items}.
+     *
+     * @param <T>         the type of the items
+     * @param items       the items to process
+     * @param parallelism the number of threads to use; see {@link #resolveParallelism(int)}
+     * @param action      the action to perform for each item
+     * @param log         where to forward the messages produced by {@code action}
+     */
+    public static <T> void forEach(Collection<T> items, int parallelism, BiConsumer<T, Consumer<String>> action,
+            Consumer<String> log) {
+        final List<List<String>> messages = map(items, parallelism, item -> {
+            final List<String> itemMessages = new ArrayList<>();
+            action.accept(item, itemMessages::add);
+            return itemMessages;
+        });
+        messages.forEach(itemMessages -> itemMessages.forEach(log));
+    }
+
+    /**
+     * Apply the given {@code mapper} to every element of {@code items} using up to {@code parallelism} threads.
+     *
+     * @param  <T>         the type of the items
+     * @param  <R>         the type of the results
+     * @param  items       the items to process
+     * @param  parallelism the number of threads to use; see {@link #resolveParallelism(int)}
+     * @param  mapper      the function to apply to each item
+     * @return             a {@link List} of results in the iteration order of {@code items}
+     */
+    public static <T, R> List<R> map(Collection<T> items, int parallelism, Function<T, R> mapper) {
+        final int threads = Math.min(resolveParallelism(parallelism), items.size());
+        final List<R> result = new ArrayList<>(items.size());
+        if (threads <= 1) {
+            for (T item : items) {
+                result.add(mapper.apply(item));
+            }
+            return result;
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final List<Future<R>> futures = new ArrayList<>(items.size());
+        try {
+            for (T item : items) {
+                futures.add(executor.submit(() -> mapper.apply(item)));
+            }
+            for (Future<R> future : futures) {
+                result.add(future.get());
+            }
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for parallel tasks to finish", e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        } finally {
+            /*
+             * Do not interrupt the running tasks: they may be writing files through interruptible channels and an
+             * interrupt could leave those files truncated. Just skip the tasks that have not started yet.
+             */
+            for (Future<R> future : futures) {
+                future.cancel(false);
+            }
+            executor.shutdown();
+            awaitTermination(executor);
+        }
+    }
+
+    static void awaitTermination(ExecutorService executor) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                if (executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                    break;
+                }
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
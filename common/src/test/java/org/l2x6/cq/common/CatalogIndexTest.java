@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2020 CQ Maven Plugin
+ * project contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.l2x6.cq.common;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.apache.camel.tooling.model.Kind;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CatalogIndexTest {
+
+    private static CatalogIndex index() {
+        return new CatalogIndex(List.of(
+                new CatalogIndex.Entry(Kind.component, "jms", "JMS", "1.0.0", "messaging", "camel-jms", null, true,
+                        false),
+                new CatalogIndex.Entry(Kind.component, "ftps", "FTPS", "2.2.0", "file", "camel-ftp", "ftps,sftp",
+                        true, false),
+                new CatalogIndex.Entry(Kind.component, "sftp", "SFTP", "1.1.0", "file", "camel-ftp", "ftps,sftp",
+                        false, true),
+                new CatalogIndex.Entry(Kind.eip, "split", "Split", null, "eip,routing", null, null, true, false)));
+    }
+
+    @Test
+    public void entries() {
+        final CatalogIndex index = index();
+        Assertions.assertEquals(List.of("jms", "ftps", "sftp"),
+                index.entries(Kind.component).map(CatalogIndex.Entry::getName).collect(Collectors.toList()));
+        Assertions.assertEquals(List.of("jms", "ftps"),
+                index.entries(Kind.component).filter(CatalogIndex.Entry::isFirstScheme).map(CatalogIndex.Entry::getName)
+                        .collect(Collectors.toList()));
+        Assertions.assertEquals(0, index.entries(Kind.language).count());
+        Assertions.assertTrue(index.entry(Kind.eip, "split").isPresent());
+        Assertions.assertFalse(index.entry(Kind.component, "split").isPresent());
+    }
+
+    @Test
+    public void roundTrip() throws IOException {
+        final CatalogIndex index = CatalogIndex.read(index().toBytes());
+        final CatalogIndex.Entry sftp = index.entry(Kind.component, "sftp").get();
+        Assertions.assertEquals("SFTP", sftp.getTitle());
+        Assertions.assertEquals("1.1.0", sftp.getFirstVersion());
+        Assertions.assertEquals("file", sftp.getLabel());
+        Assertions.assertEquals("camel-ftp", sftp.getArtifactId());
+        Assertions.assertEquals("ftps,sftp", sftp.getAlternativeSchemes());
+        Assertions.assertFalse(sftp.isNativeSupported());
+        Assertions.assertTrue(sftp.isDeprecated());
+        final CatalogIndex.Entry split = index.entry(Kind.eip, "split").get();
+        Assertions.assertNull(split.getFirstVersion());
+        Assertions.assertNull(split.getArtifactId());
+        Assertions.assertTrue(split.isNativeSupported());
+        Assertions.assertArrayEquals(index().toBytes(), index.toBytes());
+    }
+
+    @Test
+    public void loadCachesByChecksum(@TempDir Path dir) throws IOException {
+        final Path jar = dir.resolve("catalog.jar");
+        final Path indexDir = dir.resolve("index");
+        final AtomicInteger builds = new AtomicInteger();
+
+        Files.writeString(jar, "v1");
+        CatalogIndex.load(jar, indexDir, () -> {
+            builds.incrementAndGet();
+            return index();
+        }, new SystemStreamLog());
+        Assertions.assertEquals(1, builds.get());
+        final CatalogIndex cached = CatalogIndex.load(jar, indexDir, () -> {
+            builds.incrementAndGet();
+            return index();
+        }, new SystemStreamLog());
+        Assertions.assertEquals(1, builds.get());
+        Assertions.assertEquals("JMS", cached.entry(Kind.component, "jms").get().getTitle());
+
+        /* A changed jar gets a new index */
+        Files.writeString(jar, "v2");
+        CatalogIndex.load(jar, indexDir, () -> {
+            builds.incrementAndGet();
+            return new CatalogIndex(List.of());
+        }, new SystemStreamLog());
+        Assertions.assertEquals(2, builds.get());
+    }
+
+    @Test
+    public void loadWithUnwritableIndexDir(@TempDir Path dir) throws IOException {
+        final Path jar = dir.resolve("catalog.jar");
+        Files.writeString(jar, "v1");
+        /* A regular file where the index directory should be */
+        final Path indexDir = dir.resolve("index");
+        Files.writeString(indexDir, "");
+
+        final CatalogIndex index = CatalogIndex.load(jar, indexDir, CatalogIndexTest::index, new SystemStreamLog());
+        Assertions.assertEquals("JMS", index.entry(Kind.component, "jms").get().getTitle());
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2020 CQ Maven Plugin
+ * project contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.l2x6.cq.common;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.camel.tooling.model.ArtifactModel;
+import org.apache.camel.tooling.model.Kind;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.l2x6.cq.common.CqCatalog.Flavor;
+
+public class CqCatalogTest {
+
+    @Test
+    public void filterModels() {
+        final CqCatalog catalog = new CqCatalog(Flavor.camel);
+        for (String artifactIdBase : List.of("core", "reactive-executor", "ftp", "jms", "aws2-s3", "no-such-extension")) {
+            Assertions.assertEquals(scan(catalog, artifactIdBase),
+                    catalog.filterModels(artifactIdBase).collect(Collectors.toList()), artifactIdBase);
+        }
+        Assertions.assertTrue(catalog.filterModels("no-such-extension").findAny().isEmpty());
+        Assertions.assertTrue(catalog.filterModels("core").findAny().isPresent());
+    }
+
+    @Test
+    public void primaryModel() {
+        final CqCatalog catalog = new CqCatalog(Flavor.camel);
+        for (String artifactIdBase : List.of("core", "reactive-executor", "ftp", "jms", "aws2-s3", "no-such-extension")) {
+            Assertions.assertEquals(scanPrimaryModel(catalog, artifactIdBase), catalog.primaryModel(artifactIdBase),
+                    artifactIdBase);
+        }
+        Assertions.assertEquals(List.of("jms"), catalog.primaryModel("jms").stream().map(ArtifactModel::getName)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * @return the result of {@link CqCatalog#filterModels(String)} computed by scanning all models, as it was done
+     *         before the models were grouped by artifactId
+     */
+    static List<ArtifactModel<?>> scan(CqCatalog catalog, String artifactIdBase) {
+        final List<String> camelArtifactIds = catalog.toCamelArtifactIdBase(artifactIdBase);
+        return catalog.models()
+                .filter(CqCatalog.SUPPORTED_CATALOG_MODEL_FILTER)
+                .filter(model -> camelArtifactIds.contains(model.getArtifactId()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @return the result of {@link CqCatalog#primaryModel(String)} computed out of {@link #scan(CqCatalog, String)}
+     */
+    static List<ArtifactModel<?>> scanPrimaryModel(CqCatalog catalog, String artifactIdBase) {
+        final List<ArtifactModel<?>> models = scan(catalog, artifactIdBase).stream()
+                .filter(CqCatalog::isFirstScheme)
+                .filter(m -> !m.getName().startsWith("google-") || !m.getName().endsWith("-stream"))
+                .collect(Collectors.toList());
+        final List<ArtifactModel<?>> componentModels = models.stream()
+                .filter(m -> m.getKind() == Kind.component)
+                .collect(Collectors.toList());
+        return models.size() > 1 && componentModels.size() == 1 ? componentModels : models;
+    }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2020 CQ Maven Plugin
+ * project contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.l2x6.cq.common;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.resolution.ArtifactDescriptorRequest;
+import org.eclipse.aether.resolution.ArtifactDescriptorResult;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ManagedDependenciesCacheTest {
+
+    @Test
+    public void sharedBySession() {
+        final AtomicInteger reads = new AtomicInteger();
+        final RepositorySystem repoSystem = repoSystem(bom -> {
+            reads.incrementAndGet();
+            return bom.getArtifactId() + "-managed";
+        });
+        final DefaultRepositorySystemSession session = new DefaultRepositorySystemSession();
+        final Artifact bom1 = new DefaultArtifact("org.acme:bom1:pom:1.0");
+        final Artifact bom2 = new DefaultArtifact("org.acme:bom2:pom:1.0");
+
+        final ManagedDependenciesCache cache = new ManagedDependenciesCache(repoSystem, session);
+        final List<Dependency> managed = cache.getManagedDependencies(bom1, List.of());
+        Assertions.assertEquals(1, managed.size());
+        Assertions.assertEquals("bom1-managed", managed.get(0).getArtifact().getArtifactId());
+        Assertions.assertSame(managed, cache.getManagedDependencies(bom1, List.of()));
+        Assertions.assertEquals(1, reads.get());
+
+        /* Another instance using the same session reuses the entries */
+        final ManagedDependenciesCache otherCache = new ManagedDependenciesCache(repoSystem, session);
+        Assertions.assertSame(managed, otherCache.getManagedDependencies(bom1, List.of()));
+        Assertions.assertEquals(1, reads.get());
+        otherCache.getManagedDependencies(bom2, List.of());
+        Assertions.assertEquals(2, reads.get());
+
+        /* A new session starts with an empty cache */
+        new ManagedDependenciesCache(repoSystem, new DefaultRepositorySystemSession()).getManagedDependencies(bom1,
+                List.of());
+        Assertions.assertEquals(3, reads.get());
+    }
+
+    @Test
+    public void concurrentReads() throws InterruptedException, ExecutionException, TimeoutException {
+        final AtomicInteger reads = new AtomicInteger();
+        final CountDownLatch bom1Reading = new CountDownLatch(1);
+        final CountDownLatch bom2Read = new CountDownLatch(1);
+        final RepositorySystem repoSystem = repoSystem(bom -> {
+            reads.incrementAndGet();
+            if ("bom1".equals(bom.getArtifactId())) {
+                bom1Reading.countDown();
+                try {
+                    /* Reading bom2 must not have to wait for bom1 */
+                    Assertions.assertTrue(bom2Read.await(10, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return bom.getArtifactId() + "-managed";
+        });
+        final ManagedDependenciesCache cache = new ManagedDependenciesCache(repoSystem,
+                new DefaultRepositorySystemSession());
+        final Artifact bom1 = new DefaultArtifact("org.acme:bom1:pom:1.0");
+        final Artifact bom2 = new DefaultArtifact("org.acme:bom2:pom:1.0");
+
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<List<Dependency>> first = executor.submit(() -> cache.getManagedDependencies(bom1, List.of()));
+            Assertions.assertTrue(bom1Reading.await(10, TimeUnit.SECONDS));
+            /* Waits for the read in progress instead of starting another one */
+            final Future<List<Dependency>> second = executor.submit(() -> cache.getManagedDependencies(bom1, List.of()));
+
+            Assertions.assertEquals("bom2-managed",
+                    cache.getManagedDependencies(bom2, List.of()).get(0).getArtifact().getArtifactId());
+            bom2Read.countDown();
+
+            Assertions.assertSame(first.get(10, TimeUnit.SECONDS), second.get(10, TimeUnit.SECONDS));
+            Assertions.assertEquals(2, reads.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void failureNotCached() {
+        final AtomicInteger reads = new AtomicInteger();
+        final RepositorySystem repoSystem = repoSystem(bom -> {
+            if (reads.incrementAndGet() == 1) {
+                throw new IllegalStateException("Network down");
+            }
+            return bom.getArtifactId() + "-managed";
+        });
+        final ManagedDependenciesCache cache = new ManagedDependenciesCache(repoSystem,
+                new DefaultRepositorySystemSession());
+        final Artifact bom1 = new DefaultArtifact("org.acme:bom1:pom:1.0");
+        Assertions.assertThrows(IllegalStateException.class, () -> cache.getManagedDependencies(bom1, List.of()));
+        Assertions.assertEquals(1, cache.getManagedDependencies(bom1, List.of()).size());
+        Assertions.assertEquals(2, reads.get());
+    }
+
+    /**
+     * @param  managedArtifactId returns the artifactId of the single dependency managed by the given BOM
+     * @return                   a {@link RepositorySystem} supporting only {@code readArtifactDescriptor()}
+     */
+    static RepositorySystem repoSystem(Function<Artifact, String> managedArtifactId) {
+        return (RepositorySystem) Proxy.newProxyInstance(
+                ManagedDependenciesCacheTest.class.getClassLoader(),
+                new Class<?>[] { RepositorySystem.class },
+                (proxy, method, args) -> {
+                    if (!"readArtifactDescriptor".equals(method.getName())) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    final ArtifactDescriptorRequest request = (ArtifactDescriptorRequest) args[1];
+                    final Artifact bom = request.getArtifact();
+                    final ArtifactDescriptorResult result = new ArtifactDescriptorResult(request);
+                    result.addManagedDependency(new Dependency(
+                            new DefaultArtifact("org.acme", managedArtifactId.apply(bom), "jar", "1.0"), "compile"));
+                    return result;
+                });
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2020 CQ Maven Plugin
+ * project contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.l2x6.cq.common;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class OutputFilesTest {
+
+    @Test
+    public void write(@TempDir Path dir) throws IOException {
+        final Path file = dir.resolve("sub/file.txt");
+        final OutputFiles outputFiles = new OutputFiles();
+
+        Assertions.assertTrue(outputFiles.write(file, StandardCharsets.UTF_8, out -> write(out, "foo\n")));
+        Assertions.assertEquals("foo\n", Files.readString(file));
+
+        final FileTime past = FileTime.fromMillis(System.currentTimeMillis() - 60_000);
+        Files.setLastModifiedTime(file, past);
+        Assertions.assertFalse(outputFiles.write(file, StandardCharsets.UTF_8, out -> write(out, "foo\n")));
+        Assertions.assertEquals(past, Files.getLastModifiedTime(file));
+
+        /* Same size, different content */
+        Assertions.assertTrue(outputFiles.write(file, StandardCharsets.UTF_8, out -> write(out, "bar\n")));
+        Assertions.assertEquals("bar\n", Files.readString(file));
+
+        Assertions.assertEquals(2, outputFiles.getChanged());
+        Assertions.assertEquals(1, outputFiles.getUnchanged());
+        Assertions.assertEquals("2 changed, 1 unchanged", outputFiles.summary());
+
+        /* No temporary files left behind */
+        try (Stream<Path> files = Files.list(file.getParent())) {
+            Assertions.assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void writeKeepsPermissionsAndSymlinks(@TempDir Path dir) throws IOException {
+        Assumptions.assumeTrue(dir.getFileSystem().supportedFileAttributeViews().contains("posix"));
+
+        /* New files get the default permissions rather than the 0600 of temporary files */
+        final Path file = dir.resolve("file.sh");
+        final Path probe = Files.createFile(dir.resolve("probe.txt"));
+        OutputFiles.writeIfChanged(file, "foo\n".getBytes(StandardCharsets.UTF_8));
+        Assertions.assertEquals(Files.getPosixFilePermissions(probe), Files.getPosixFilePermissions(file));
+
+        /* Existing permissions are kept */
+        final Set<PosixFilePermission> executable = PosixFilePermissions.fromString("rwxr-x---");
+        Files.setPosixFilePermissions(file, executable);
+        Assertions.assertTrue(OutputFiles.writeIfChanged(file, "bar\n".getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertEquals(executable, Files.getPosixFilePermissions(file));
+
+        /* Symbolic links are kept and their targets are written */
+        final Path link = Files.createSymbolicLink(dir.resolve("link.sh"), file.getFileName());
+        Assertions.assertTrue(OutputFiles.writeIfChanged(link, "baz\n".getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertTrue(Files.isSymbolicLink(link));
+        Assertions.assertEquals("baz\n", Files.readString(file));
+        Assertions.assertEquals(executable, Files.getPosixFilePermissions(file));
+    }
+
+    @Test
+    public void hasContent(@TempDir Path dir) throws IOException {
+        final Path file = dir.resolve("file.bin");
+        final byte[] content = new byte[20_000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        Files.write(file, content);
+        Assertions.assertTrue(OutputFiles.hasContent(file, content));
+        final byte[] changed = content.clone();
+        changed[changed.length - 1]++;
+        Assertions.assertFalse(OutputFiles.hasContent(file, changed));
+        Assertions.assertFalse(OutputFiles.hasContent(file, new byte[0]));
+        Assertions.assertFalse(OutputFiles.hasContent(file.resolveSibling("does-not-exist"), content));
+    }
+
+    static void write(Writer out, String content) {
+        try {
+            out.write(content);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2020 CQ Maven Plugin
+ * project contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.l2x6.cq.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ParallelTasksTest {
+
+    @Test
+    public void mapKeepsOrder() {
+        final List<Integer> items = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+        final List<Integer> result = ParallelTasks.map(items, 8, i -> {
+            try {
+                Thread.sleep(100 - i);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return i * 2;
+        });
+        Assertions.assertEquals(items.stream().map(i -> i * 2).collect(Collectors.toList()), result);
+    }
+
+    @Test
+    public void forEachLogsInOrder() {
+        final List<String> items = List.of("a", "b", "c", "d", "e");
+        final List<String> log = new ArrayList<>();
+        ParallelTasks.forEach(items, 4, (item, itemLog) -> {
+            itemLog.accept(item + "1");
+            itemLog.accept(item + "2");
+        }, log::add);
+        Assertions.assertEquals(List.of("a1", "a2", "b1", "b2", "c1", "c2", "d1", "d2", "e1", "e2"), log);
+    }
+
+    @Test
+    public void rethrow() {
+        final IllegalStateException e = Assertions.assertThrows(IllegalStateException.class,
+                () -> ParallelTasks.map(List.of(1, 2, 3), 3, i -> {
+                    if (i == 2) {
+                        throw new IllegalStateException("boom " + i);
+                    }
+                    return i;
+                }));
+        Assertions.assertEquals("boom 2", e.getMessage());
+    }
+
+    @Test
+    public void failureLetsRunningTasksFinish() {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicBoolean interrupted = new AtomicBoolean();
+        final AtomicBoolean slowFinished = new AtomicBoolean();
+        final List<Integer> items = IntStream.range(0, 20).boxed().collect(Collectors.toList());
+        Assertions.assertThrows(IllegalStateException.class, () -> ParallelTasks.map(items, 2, i -> {
+            running.incrementAndGet();
+            try {
+                if (i == 0) {
+                    Thread.sleep(50);
+                    throw new IllegalStateException("boom");
+                }
+                Thread.sleep(300);
+                if (i == 1) {
+                    slowFinished.set(true);
+                }
+                return i;
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+                Thread.currentThread().interrupt();
+                return i;
+            } finally {
+                running.decrementAndGet();
+            }
+        }));
+        Assertions.assertFalse(interrupted.get());
+        Assertions.assertTrue(slowFinished.get());
+        Assertions.assertEquals(0, running.get());
+    }
+
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2020 CQ Maven Plugin
+ * project contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.l2x6.cq.maven;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * Polls a set of URIs until all of them are available.
+ * <p>
+ * The URIs are probed via {@code HEAD} requests sent asynchronously, with at most {@link #concurrency} requests in
+ * flight at any time. Each URI that is not available yet gets its own exponential backoff starting at
+ * {@link #initialDelay} and capped at {@link #maxDelay}, so that the still missing URIs are re-checked less and less
+ * often while the available ones are never checked again.
+ * <p>
+ * Optionally, the files of an artifact can be gated by the artifact's {@code maven-metadata.xml}: only the metadata
+ * file is polled (via conditional {@code GET} requests using {@code ETag} and {@code Last-Modified}, so that repeated
+ * polls of an unchanged file are answered with an empty {@code 304}) until it lists the awaited version. Only then the
+ * individual files of the artifact start being probed.
+ *
+ * @since 4.26.1
+ */
+class AvailabilityPoller {
+    private final HttpClient httpClient;
+    private final int concurrency;
+    private final Duration initialDelay;
+    private final Duration maxDelay;
+    private final Duration requestTimeout;
+    private final Log log;
+
+    AvailabilityPoller(HttpClient httpClient, int concurrency, Duration initialDelay, Duration maxDelay,
+            Duration requestTimeout, Log log) {
+        this.httpClient = httpClient;
+        this.concurrency = Math.max(1, concurrency);
+        this.initialDelay = initialDelay;
+        this.maxDelay = maxDelay.compareTo(initialDelay) < 0 ? initialDelay : maxDelay;
+        this.requestTimeout = requestTimeout;
+        this.log = log;
+    }
+
+    /**
+     * Returns once all given {@code uris} are available.
+     *
+     * @param uris the URIs to await
+     */
+    void await(Collection<String> uris) {
+        final List<Probe> probes = new ArrayList<>(uris.size());
+        for (String uri : uris) {
+            probes.add(new Probe(uri));
+        }
+        run(probes, uris.size());
+    }
+
+    /**
+     * Returns once all files in the values of the given {@code filesByMetadataUri} map are available. The files
+     * belonging to a metadata URI are not probed before the {@code maven-metadata.xml} file under that URI lists
+     * the given {@code version}.
+     *
+     * @param filesByMetadataUri the URIs of the files to await by the URIs of the {@code maven-metadata.xml} files
+     *                           of their artifacts
+     * @param version            the version to await
+     */
+    void await(Map<String, List<String>> filesByMetadataUri, String version) {
+        final Pattern versionPattern = Pattern.compile("<version>\\s*" + Pattern.quote(version) + "\\s*</version>");
+        final List<Probe> probes = new ArrayList<>(filesByMetadataUri.size());
+        int fileCount = 0;
+        for (Entry<String, List<String>> en : filesByMetadataUri.entrySet()) {
+            probes.add(new MetadataProbe(en.getKey(), versionPattern, en.getValue()));
+            fileCount += en.getValue().size();
+        }
+        run(probes, fileCount);
+    }
+
+    void run(List<Probe> probes, int total) {
+        final Map<String, Probe> missing = new LinkedHashMap<>();
+        for (Probe probe : probes) {
+            missing.put(probe.uri, probe);
+        }
+        int available = 0;
+        while (!missing.isEmpty()) {
+            final long now = System.nanoTime();
+            final List<Probe> due = missing.values().stream()
+                    .filter(p -> p.dueAt - now <= 0)
+                    .collect(Collectors.toList());
+            final List<Integer> statusCodes = probe(due);
+            final long checkedAt = System.nanoTime();
+            for (int i = 0; i < due.size(); i++) {
+                final Probe p = due.get(i);
+                final int statusCode = statusCodes.get(i);
+                if (statusCode == 200) {
+                    missing.remove(p.uri);
+                    if (p instanceof MetadataProbe) {
+                        for (String file : ((MetadataProbe) p).files) {
+                            missing.put(file, new Probe(file));
+                        }
+                    } else {
+                        available++;
+                    }
+                } else {
+                    p.backOff(checkedAt);
+                }
+                log.debug("Got " + (statusCode < 0 ? "an error" : String.valueOf(statusCode)) + " for " + p.uri);
+            }
+            if (missing.isEmpty()) {
+                log.info(total + "/" + total + " available");
+            } else {
+                final long nextDueAt = missing.values().stream().mapToLong(p -> p.dueAt)
+                        .reduce((a, b) -> a - b < 0 ? a : b)
+                        .getAsLong();
+                final long sleepNanos = Math.max(0, nextDueAt - System.nanoTime());
+                final long metadataCount = missing.values().stream().filter(p -> p instanceof MetadataProbe).count();
+                log.info(available + "/" + total + " available; checked " + due.size() + " in this round; "
+                        + (metadataCount > 0 ? metadataCount + " artifacts not listing the version in their metadata; "
+                                : "")
+                        + (missing.size() - metadataCount) + " files missing, e.g. " + missing.keySet().iterator().next()
+                        + "; next check in " + Duration.ofNanos(sleepNanos).toSeconds() + " seconds");
+                sleep(sleepNanos);
+            }
+        }
+    }
+
+    /**
+     * @param  probes the URIs to check
+     * @return        the status codes for the given {@code probes} in the same order; {@code -1} in case of an
+     *                exception
+     */
+    List<Integer> probe(List<Probe> probes) {
+        final Semaphore inFlight = new Semaphore(concurrency);
+        final List<CompletableFuture<Integer>> futures = new ArrayList<>(probes.size());
+        for (Probe p : probes) {
+            try {
+                inFlight.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while probing " + p.uri, e);
+            }
+            futures.add(p.check().whenComplete((statusCode, e) -> inFlight.release()));
+        }
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @param  uri the URI to check
+     * @return     a {@link CompletableFuture} of the status code of a {@code HEAD} request to the given {@code uri},
+     *             or of a {@code GET} request if the server does not support {@code HEAD}; {@code -1} in case of
+     *             an exception
+     */
+    CompletableFuture<Integer> statusCode(String uri) {
+        return send("HEAD", uri)
+                .thenCompose(response -> response.statusCode() == 405 || response.statusCode() == 501
+                        ? send("GET", uri)
+                        : CompletableFuture.completedFuture(response))
+                .thenApply(HttpResponse::statusCode)
+                .exceptionally(e -> {
+                    log.debug("Could not probe " + uri + ": " + e.getMessage());
+                    return -1;
+                });
+    }
+
+    CompletableFuture<HttpResponse<Void>> send(String method, String uri) {
+        final HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(uri))
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .timeout(requestTimeout)
+                .build();
+        return httpClient.sendAsync(request, BodyHandlers.discarding());
+    }
+
+    static void sleep(long nanos) {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(nanos / 1_000_000, (int) (nanos % 1_000_000));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    class Probe {
+        final String uri;
+        private int failures;
+        /** {@link System#nanoTime()} when this probe should be checked next time */
+        private long dueAt = System.nanoTime();
+
+        Probe(String uri) {
+            this.uri = uri;
+        }
+
+        /**
+         * @return a {@link CompletableFuture} of {@code 200} if the {@link #uri} is available; of some other status
+         *         code or {@code -1} otherwise
+         */
+        CompletableFuture<Integer> check() {
+            return statusCode(uri);
+        }
+
+        void backOff(long now) {
+            failures++;
+            dueAt = now + delay(failures).toNanos();
+        }
+    }
+
+    /**
+     * A {@link Probe} of a {@code maven-metadata.xml} file being available once the file lists the awaited version.
+     */
+    class MetadataProbe extends Probe {
+        private final Pattern versionPattern;
+        private final List<String> files;
+        private volatile String etag;
+        private volatile String lastModified;
+
+        MetadataProbe(String uri, Pattern versionPattern, List<String> files) {
+            super(uri);
+            this.versionPattern = versionPattern;
+            this.files = files;
+        }
+
+        @Override
+        CompletableFuture<Integer> check() {
+            final HttpRequest.Builder request = HttpRequest.newBuilder()
+                    .uri(URI.create(uri))
+                    .timeout(requestTimeout)
+                    .GET();
+            if (etag != null) {
+                request.header("If-None-Match", etag);
+            }
+            if (lastModified != null) {
+                request.header("If-Modified-Since", lastModified);
+            }
+            return httpClient.sendAsync(request.build(), BodyHandlers.ofString())
+                    .thenApply(response -> {
+                        if (response.statusCode() != 200) {
+                            /* 304 Not Modified or the artifact is not there yet */
+                            return response.statusCode();
+                        }
+                        etag = response.headers().firstValue("ETag").orElse(null);
+                        lastModified = response.headers().firstValue("Last-Modified").orElse(null);
+                        return versionPattern.matcher(response.body()).find() ? 200 : 404;
+                    })
+                    .exceptionally(e -> {
+                        log.debug("Could not probe " + uri + ": " + e.getMessage());
+                        return -1;
+                    });
+        }
+    }
+
+    /**
+     * @param  failures the number of unsuccessful checks so far
+     * @return          {@link #initialDelay} doubled {@code failures - 1} times, capped at {@link #maxDelay}
+     */
+    Duration delay(int failures) {
+        final int shift = Math.min(failures - 1, 30);
+        final Duration result = initialDelay.multipliedBy(1L << shift);
+        return result.compareTo(maxDelay) > 0 || result.isNegative() ? maxDelay : result;
+    }
+}
@@ -18,17 +18,17 @@ package org.l2x6.cq.maven;
 
 import java.io.IOException;
 import java.io.Serializable;
-import java.net.URI;
 import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.net.http.HttpResponse.BodyHandlers;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.StringTokenizer;
+import java.util.function.BiPredicate;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -37,16 +37,20 @@ import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
+import org.l2x6.cq.common.ParallelTasks;
+import org.l2x6.pom.tuner.PomTunerUtils;
 
 /**
  * Lists the artifacts having the given {@link #groupId} and {@link #version} from the {@link #localRepository} and
  * checks that they are available in the {@link #remoteRepository}. As long as there are unavailable artifacts, the
- * requests are re-tried with the {@link #retrySec} delay.
+ * requests for them are re-tried with a delay growing from {@link #retrySec} to {@link #maxRetrySec}.
  *
  * @since 0.40.0
  */
 @Mojo(name = "await-release", threadSafe = true, requiresProject = false)
 public class AwaitReleaseMojo extends AbstractExtensionListMojo {
+    /** Files the local Maven repository may contain next to the deployed artifacts */
+    private static final List<String> IGNORED_FILE_SUFFIXES = List.of(".lastUpdated", ".part");
 
     /**
      * The version of Camel Quarkus to await in the remote Maven repo
@@ -72,6 +76,35 @@ public class AwaitReleaseMojo extends AbstractExtensionListMojo {
     @Parameter(property = "cq.retrySec", defaultValue = "60", required = true)
     int retrySec;
 
+    /**
+     * The upper bound for the retry delay in seconds. The delay for an artifact which is still unavailable is doubled
+     * after each unsuccessful check starting with {@link #retrySec} until it reaches {@link #maxRetrySec}.
+     *
+     * @since 4.26.1
+     */
+    @Parameter(property = "cq.maxRetrySec", defaultValue = "600", required = true)
+    int maxRetrySec;
+
+    /**
+     * The maximum number of concurrent requests to {@link #remoteRepository}
+     *
+     * @since 4.26.1
+     */
+    @Parameter(property = "cq.concurrency", defaultValue = "16", required = true)
+    int concurrency;
+
+    /**
+     * If {@code true}, the {@code maven-metadata.xml} file of each artifact is polled first and the files of the
+     * artifact are probed only after the metadata lists the awaited {@link #version}. The metadata is polled via
+     * conditional requests, so that polling an unchanged file costs just an empty {@code 304} response. This is
+     * friendlier to rate-limited mirrors, but it only works with repositories that update the metadata no later than
+     * they make the files available.
+     *
+     * @since 4.26.1
+     */
+    @Parameter(property = "cq.useMetadata", defaultValue = "false")
+    boolean useMetadata;
+
     /**
      * The groupId to check
      *
@@ -91,6 +124,50 @@ public class AwaitReleaseMojo extends AbstractExtensionListMojo {
     @Parameter(property = "cq.excludeArtifactIdPatterns")
     List<String> excludeArtifactIdPatterns;
 
+    /**
+     * If {@code true}, all files deployed for the awaited {@link #version} of each artifact, such as the main jar,
+     * the sources and javadoc jars, Gradle module metadata and signatures are awaited in the
+     * {@link #remoteRepository}; otherwise only the {@code pom.xml} files are awaited. The set of files is taken from
+     * {@code <artifactId>/<version>/} directories of the local Maven repository and it can be narrowed down via
+     * {@link #classifiers} and {@link #extensions}.
+     *
+     * @since 4.26.1
+     */
+    @Parameter(property = "cq.awaitAllFiles", defaultValue = "false")
+    boolean awaitAllFiles;
+
+    /**
+     * A list of classifiers or classifier patterns (may contain zero, one or more {@code *} wildcards) to await if
+     * {@link #awaitAllFiles} is {@code true}. An empty string stands for no classifier. If not set, files with any
+     * classifier are awaited.
+     * <p>
+     * Example: {@code ,sources,javadoc}
+     *
+     * @since 4.26.1
+     */
+    @Parameter(property = "cq.classifiers")
+    List<String> classifiers;
+
+    /**
+     * A list of file extensions or file extension patterns (may contain zero, one or more {@code *} wildcards) to
+     * await if {@link #awaitAllFiles} is {@code true}. If not set, files with any extension are awaited.
+     * <p>
+     * Example: {@code pom,jar,module,*.asc}
+     *
+     * @since 4.26.1
+     */
+    @Parameter(property = "cq.extensions")
+    List<String> extensions;
+
+    /**
+     * The number of threads to use for listing the artifact directories in the local Maven repository. Values less
+     * than {@code 1} mean the number of available processors.
+     *
+     * @since 4.26.1
+     */
+    @Parameter(property = "cq.parallelism", defaultValue = "0")
+    int parallelism;
+
     @Parameter(defaultValue = "${settings.localRepository}", readonly = true)
     String localRepository;
 
@@ -99,71 +176,133 @@ public class AwaitReleaseMojo extends AbstractExtensionListMojo {
         final String groupIdRelPath = groupId.replace(".", "/");
         final Path localBasedir = Paths.get(localRepository).resolve(groupIdRelPath);
         final String remoteBasedir = remoteRepository + "/" + groupIdRelPath;
-        final int retryMillis = retrySec * 1000;
-
-        final List<String> remotePaths;
-        try (Stream<Path> artifactDirs = Files.list(localBasedir)) {
-            remotePaths = artifactDirs
-                    .filter(artifactIdFilter(excludeArtifactIdPatterns))
-                    .map(p -> p.resolve(version).resolve(p.getFileName().toString() + "-" + version + ".pom"))
-                    .filter(Files::isRegularFile)
-                    .map(localBasedir::relativize)
-                    .map(Path::toString)
-                    .peek(relPath -> getLog().info(" - " + relPath))
-                    .map(relPath -> remoteBasedir + "/" + relPath)
-                    .collect(Collectors.toList());
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
 
-        getLog().info("Awaiting " + remotePaths.size() + " artifacts in " + remoteRepository);
+        final Map<String, List<String>> remotePathsByArtifactId = new LinkedHashMap<>();
+        findLocalFiles(
+                localBasedir,
+                version,
+                artifactIdFilter(excludeArtifactIdPatterns),
+                awaitAllFiles ? fileFilter(classifiers, extensions) : null,
+                parallelism)
+                .forEach(relPath -> {
+                    getLog().info(" - " + relPath);
+                    remotePathsByArtifactId
+                            .computeIfAbsent(relPath.getName(0).toString(), k -> new ArrayList<>())
+                            .add(remoteBasedir + "/" + PomTunerUtils.toUnixPath(relPath.toString()));
+                });
+        final int remotePathCount = remotePathsByArtifactId.values().stream().mapToInt(List::size).sum();
+
+        getLog().info("Awaiting " + remotePathCount + (awaitAllFiles ? " files" : " artifacts") + " in "
+                + remoteRepository);
 
-        HttpClient httpClient = HttpClient.newBuilder()
+        final HttpClient httpClient = HttpClient.newBuilder()
                 .connectTimeout(Duration.ofMillis(3000))
                 .build();
-        int uriCount = remotePaths.size();
-        int verifiedUriCount = 0;
-        while (!remotePaths.isEmpty()) {
-
-            while (!remotePaths.isEmpty()) {
-                int randomIndex = remotePaths.size() == 1 ? 0 : (int) Math.round((Math.random() * (double) remotePaths.size()));
-                if (randomIndex >= remotePaths.size()) {
-                    continue;
-                }
-                final String uri = remotePaths.get(randomIndex);
-                final HttpRequest request = HttpRequest.newBuilder()
-                        .uri(URI.create(uri))
-                        .build();
-                try {
-                    HttpResponse<String> response = httpClient.send(request, BodyHandlers.ofString());
-                    final int statusCode = response.statusCode();
-                    if (statusCode == 200) {
-                        remotePaths.remove(randomIndex);
-                        verifiedUriCount++;
-                    }
-                    getLog().info("" + verifiedUriCount + "/" + uriCount + " Got " + statusCode + " for " + uri);
-                    if (statusCode != 200) {
-                        /* Do not iterate over the rest of the list once we have got a non-200 */
-                        break;
-                    }
-                } catch (IOException e) {
-                    throw new RuntimeException(e);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    throw new RuntimeException(e);
-                }
-            }
+        final AvailabilityPoller poller = new AvailabilityPoller(
+                httpClient,
+                concurrency,
+                Duration.ofSeconds(retrySec),
+                Duration.ofSeconds(maxRetrySec),
+                Duration.ofSeconds(30),
+                getLog());
+        if (useMetadata) {
+            final Map<String, List<String>> remotePathsByMetadataUri = new LinkedHashMap<>();
+            remotePathsByArtifactId.forEach((artifactId, paths) -> remotePathsByMetadataUri
+                    .put(remoteBasedir + "/" + artifactId + "/maven-metadata.xml", paths));
+            poller.await(remotePathsByMetadataUri, version);
+        } else {
+            poller.await(remotePathsByArtifactId.values().stream()
+                    .flatMap(List::stream)
+                    .collect(Collectors.toList()));
+        }
+    }
 
-            if (!remotePaths.isEmpty()) {
-                getLog().info("Sleeping " + retrySec + " seconds before the next iteration");
-                try {
-                    Thread.sleep(retryMillis);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    throw new RuntimeException(e);
-                }
-            }
+    /**
+     * @param  localBasedir     the directory in the local Maven repository corresponding to the awaited
+     *                          {@code groupId}
+     * @param  version          the awaited version
+     * @param  artifactIdFilter selects the artifact directories to consider
+     * @param  fileFilter       selects the files to await out of the files under
+     *                          {@code <artifactId>/<version>/}; if {@code null} only
+     *                          {@code <artifactId>-<version>.pom} is awaited for each artifact
+     * @param  parallelism      the number of threads to use for listing the artifact directories; see
+     *                          {@link ParallelTasks#resolveParallelism(int)}
+     * @return                  the paths of the files to await relative to {@code localBasedir} sorted by artifactId
+     *                          and file name
+     */
+    static List<Path> findLocalFiles(Path localBasedir, String version, Predicate<Path> artifactIdFilter,
+            BiPredicate<String, String> fileFilter, int parallelism) {
+        final List<Path> artifactDirs;
+        try (Stream<Path> dirs = Files.list(localBasedir)) {
+            artifactDirs = dirs
+                    .filter(artifactIdFilter)
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new RuntimeException("Could not list " + localBasedir, e);
         }
+        return ParallelTasks.map(artifactDirs, parallelism, artifactDir -> {
+            final String artifactId = artifactDir.getFileName().toString();
+            final Path versionDir = artifactDir.resolve(version);
+            final String prefix = artifactId + "-" + version;
+            if (fileFilter == null) {
+                final Path pom = versionDir.resolve(prefix + ".pom");
+                return Files.isRegularFile(pom) ? List.of(localBasedir.relativize(pom)) : List.<Path> of();
+            }
+            if (!Files.isDirectory(versionDir)) {
+                return List.<Path> of();
+            }
+            try (Stream<Path> files = Files.list(versionDir)) {
+                return files
+                        .filter(file -> {
+                            final String fileName = file.getFileName().toString();
+                            if (!fileName.startsWith(prefix) || IGNORED_FILE_SUFFIXES.stream().anyMatch(fileName::endsWith)
+                                    || !Files.isRegularFile(file)) {
+                                return false;
+                            }
+                            final String rest = fileName.substring(prefix.length());
+                            final String classifier;
+                            final String extension;
+                            if (rest.startsWith("-")) {
+                                final int dotPos = rest.indexOf('.');
+                                if (dotPos < 0) {
+                                    return false;
+                                }
+                                classifier = rest.substring(1, dotPos);
+                                extension = rest.substring(dotPos + 1);
+                            } else if (rest.startsWith(".")) {
+                                classifier = "";
+                                extension = rest.substring(1);
+                            } else {
+                                /* E.g. foo-1.0.1.pom when awaiting 1.0 */
+                                return false;
+                            }
+                            return fileFilter.test(classifier, extension);
+                        })
+                        .sorted()
+                        .map(localBasedir::relativize)
+                        .collect(Collectors.toList());
+            } catch (IOException e) {
+                throw new RuntimeException("Could not list " + versionDir, e);
+            }
+        }).stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @param  rawClassifiers the classifier patterns to include; {@code null} or empty means all classifiers
+     * @param  rawExtensions  the extension patterns to include; {@code null} or empty means all extensions
+     * @return                a {@link BiPredicate} accepting a classifier and an extension
+     */
+    static BiPredicate<String, String> fileFilter(List<String> rawClassifiers, List<String> rawExtensions) {
+        final List<GavSegmentPattern> classifierPatterns = rawClassifiers == null ? List.of()
+                : rawClassifiers.stream().map(GavSegmentPattern::new).toList();
+        final List<GavSegmentPattern> extensionPatterns = rawExtensions == null ? List.of()
+                : rawExtensions.stream().map(GavSegmentPattern::new).toList();
+        return (classifier, extension) -> (classifierPatterns.isEmpty()
+                || classifierPatterns.stream().anyMatch(p -> p.matches(classifier)))
+                && (extensionPatterns.isEmpty() || extensionPatterns.stream().anyMatch(p -> p.matches(extension)));
     }
 
     static Predicate<Path> artifactIdFilter(final List<String> rawArtifactIdPatterns) {
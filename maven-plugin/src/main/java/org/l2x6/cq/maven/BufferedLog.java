@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2020 CQ Maven Plugin
+ * project contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.l2x6.cq.maven;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * A {@link Log} for tasks running in parallel: it records the messages sent to it, so that they can be passed to the
+ * mojo's {@link Log} via {@link #replay(Log)} in a deterministic order once the task is finished. The enablement of
+ * levels is taken from the delegate {@link Log}.
+ *
+ * @since 4.26.1
+ */
+class BufferedLog implements Log {
+
+    enum Level {
+        debug,
+        info,
+        warn,
+        error
+    }
+
+    private final Log delegate;
+    private final List<Message> messages = new ArrayList<>();
+
+    BufferedLog(Log delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Passes all messages recorded so far to the given {@code log} in the order in which they were recorded.
+     *
+     * @param log the {@link Log} to send the recorded messages to
+     */
+    void replay(Log log) {
+        for (Message message : messages) {
+            switch (message.level) {
+            case debug:
+                log.debug(message.content, message.error);
+                break;
+            case info:
+                log.info(message.content, message.error);
+                break;
+            case warn:
+                log.warn(message.content, message.error);
+                break;
+            case error:
+                log.error(message.content, message.error);
+                break;
+            default:
+                throw new IllegalStateException("Unexpected " + Level.class.getName() + " " + message.level);
+            }
+        }
+    }
+
+    void add(Level level, CharSequence content, Throwable error) {
+        messages.add(new Message(level, content, error));
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+        return delegate.isDebugEnabled();
+    }
+
+    @Override
+    public void debug(CharSequence content) {
+        add(Level.debug, content, null);
+    }
+
+    @Override
+    public void debug(CharSequence content, Throwable error) {
+        add(Level.debug, content, error);
+    }
+
+    @Override
+    public void debug(Throwable error) {
+        add(Level.debug, null, error);
+    }
+
+    @Override
+    public boolean isInfoEnabled() {
+        return delegate.isInfoEnabled();
+    }
+
+    @Override
+    public void info(CharSequence content) {
+        add(Level.info, content, null);
+    }
+
+    @Override
+    public void info(CharSequence content, Throwable error) {
+        add(Level.info, content, error);
+    }
+
+    @Override
+    public void info(Throwable error) {
+        add(Level.info, null, error);
+    }
+
+    @Override
+    public boolean isWarnEnabled() {
+        return delegate.isWarnEnabled();
+    }
+
+    @Override
+    public void warn(CharSequence content) {
+        add(Level.warn, content, null);
+    }
+
+    @Override
+    public void warn(CharSequence content, Throwable error) {
+        add(Level.warn, content, error);
+    }
+
+    @Override
+    public void warn(Throwable error) {
+        add(Level.warn, null, error);
+    }
+
+    @Override
+    public boolean isErrorEnabled() {
+        return delegate.isErrorEnabled();
+    }
+
+    @Override
+    public void error(CharSequence content) {
+        add(Level.error, content, null);
+    }
+
+    @Override
+    public void error(CharSequence content, Throwable error) {
+        add(Level.error, content, error);
+    }
+
+    @Override
+    public void error(Throwable error) {
+        add(Level.error, null, error);
+    }
+
+    static class Message {
+        private final Level level;
+        private final CharSequence content;
+        private final Throwable error;
+
+        Message(Level level, CharSequence content, Throwable error) {
+            this.level = level;
+            this.content = content;
+            this.error = error;
+        }
+    }
+
+}
@@ -25,16 +25,18 @@ import freemarker.template.Template;
 import freemarker.template.TemplateException;
 import freemarker.template.TemplateExceptionHandler;
 import java.io.IOException;
-import java.io.Writer;
-import java.nio.file.Files;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.text.Normalizer;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -45,6 +47,7 @@ import org.apache.camel.tooling.model.Kind;
 import org.apache.maven.model.Model;
 import org.apache.maven.plugin.logging.Log;
 import org.l2x6.cq.common.ExtensionStatus;
+import org.l2x6.cq.common.OutputFiles;
 import org.l2x6.pom.tuner.model.Ga;
 import org.l2x6.pom.tuner.model.Module;
 
@@ -56,6 +59,72 @@ public class CqUtils {
     public static final String DEFAULT_TEMPLATES_URI_BASE = "classpath:/create-extension-templates";
     public static final String DEFAULT_ENCODING = "utf-8";
 
+    private static final Map<TemplateConfigKey, Configuration> TEMPLATE_CONFIGS = new ConcurrentHashMap<>();
+
+    /** Replacements for accented latin letters indexed by the letter; used by {@link #toAnchor(String)} */
+    private static final String[] ANCHOR_TRANSLITERATIONS;
+    static {
+        final String[] replacements = {
+                "àáâãäåāąă", "a",
+                "çćčĉċ", "c",
+                "ďđð", "d",
+                "èéêëēęěĕė", "e",
+                "ƒſ", "f",
+                "ĝğġģ", "g",
+                "ĥħ", "h",
+                "ìíîïīĩĭįı", "i",
+                "ĳĵ", "j",
+                "ķĸ", "k",
+                "łľĺļŀ", "l",
+                "ñńňņŉŋ", "n",
+                "òóôõöøōőŏœ", "o",
+                "Þþ", "p",
+                "ŕřŗ", "r",
+                "śšşŝș", "s",
+                "ťţŧț", "t",
+                "ùúûüūůűŭũų", "u",
+                "ŵ", "w",
+                "ýÿŷ", "y",
+                "žżź", "z",
+                "æ", "ae",
+                "ÀÁÂÃÄÅĀĄĂ", "A",
+                "ÇĆČĈĊ", "C",
+                "ĎĐÐ", "D",
+                "ÈÉÊËĒĘĚĔĖ", "E",
+                "ĜĞĠĢ", "G",
+                "ĤĦ", "H",
+                "ÌÍÎÏĪĨĬĮİ", "I",
+                "Ĵ", "J",
+                "Ķ", "K",
+                "ŁĽĹĻĿ", "L",
+                "ÑŃŇŅŊ", "N",
+                "ÒÓÔÕÖØŌŐŎ", "O",
+                "ŔŘŖ", "R",
+                "ŚŠŞŜȘ", "S",
+                "ÙÚÛÜŪŮŰŬŨŲ", "U",
+                "Ŵ", "W",
+                "ÝŶŸ", "Y",
+                "ŹŽŻ", "Z",
+                "ß", "ss"
+        };
+        int max = 0;
+        for (int i = 0; i < replacements.length; i += 2) {
+            for (char c : replacements[i].toCharArray()) {
+                max = Math.max(max, c);
+            }
+        }
+        ANCHOR_TRANSLITERATIONS = new String[max + 1];
+        for (int i = 0; i < replacements.length; i += 2) {
+            for (char c : replacements[i].toCharArray()) {
+                ANCHOR_TRANSLITERATIONS[c] = replacements[i + 1];
+            }
+        }
+    }
+
+    private static record TemplateConfigKey(Path templatesDir, String defaultUriBase, String templatesUriBase,
+            String encoding) {
+    }
+
     static TemplateLoader createTemplateLoader(Path basePath, String defaultUriBase, String templatesUriBase) {
         final TemplateLoader defaultLoader = new ClassTemplateLoader(CreateExtensionMojo.class,
                 defaultUriBase.substring(CLASSPATH_PREFIX.length()));
@@ -115,8 +184,32 @@ public class CqUtils {
                 .sorted();
     }
 
+    /**
+     * Returns a {@link Configuration} shared by all callers passing equivalent arguments, so that the templates are
+     * loaded and parsed only once per plugin class realm rather than once per module or per extension. Freemarker
+     * {@link Configuration}s are thread safe once set up, hence the returned instance can be used from parallel
+     * builds, but it must not be modified by the caller.
+     *
+     * @param  basePath         the directory against which a {@code file:} {@code templatesUriBase} is resolved
+     * @param  defaultUriBase   the {@code classpath:} URI to fall back to if a template is not found under
+     *                          {@code templatesUriBase}
+     * @param  templatesUriBase a {@code classpath:} or {@code file:} URI
+     * @param  encoding         the encoding of the templates
+     * @return                  a cached or new {@link Configuration}
+     */
     public static Configuration getTemplateConfig(Path basePath, String defaultUriBase, String templatesUriBase,
             String encoding) {
+        /* basePath matters only for file: URIs */
+        final Path templatesDir = templatesUriBase.startsWith(FILE_PREFIX)
+                ? basePath.resolve(templatesUriBase.substring(FILE_PREFIX.length())).toAbsolutePath().normalize()
+                : null;
+        return TEMPLATE_CONFIGS.computeIfAbsent(
+                new TemplateConfigKey(templatesDir, defaultUriBase, templatesUriBase, encoding),
+                k -> createTemplateConfig(basePath, defaultUriBase, templatesUriBase, encoding));
+    }
+
+    static Configuration createTemplateConfig(Path basePath, String defaultUriBase, String templatesUriBase,
+            String encoding) {
         final Configuration templateCfg = new Configuration(Configuration.VERSION_2_3_28);
         templateCfg.setTemplateExceptionHandler(TemplateExceptionHandler.RETHROW_HANDLER);
         templateCfg.setTemplateLoader(createTemplateLoader(basePath, defaultUriBase, templatesUriBase));
@@ -143,16 +236,38 @@ public class CqUtils {
 
     public static void evalTemplate(Configuration cfg, String templateUri, Path dest, TemplateParams model,
             Consumer<String> log) {
+        evalTemplate(cfg, templateUri, dest, model, log, new OutputFiles());
+    }
+
+    /**
+     * Evaluates the given template and writes the result to {@code dest} unless {@code dest} has the same content
+     * already.
+     *
+     * @param  cfg         the Freemarker {@link Configuration}
+     * @param  templateUri the template to evaluate
+     * @param  dest        the file to write
+     * @param  model       the template parameters
+     * @param  log         where to log the {@code dest} being generated
+     * @param  outputFiles counts the changed and unchanged files
+     * @return             {@code true} if {@code dest} was written; {@code false} if it was up to date already
+     * @since              4.26.1
+     */
+    public static boolean evalTemplate(Configuration cfg, String templateUri, Path dest, TemplateParams model,
+            Consumer<String> log, OutputFiles outputFiles) {
         log.accept("Generating " + dest);
+        final Template template;
         try {
-            final Template template = cfg.getTemplate(templateUri);
-            Files.createDirectories(dest.getParent());
-            try (Writer out = Files.newBufferedWriter(dest)) {
-                template.process(model, out);
-            }
-        } catch (IOException | TemplateException e) {
+            template = cfg.getTemplate(templateUri);
+        } catch (IOException e) {
             throw new RuntimeException("Could not evaluate template " + templateUri, e);
         }
+        return outputFiles.write(dest, StandardCharsets.UTF_8, out -> {
+            try {
+                template.process(model, out);
+            } catch (IOException | TemplateException e) {
+                throw new RuntimeException("Could not evaluate template " + templateUri, e);
+            }
+        });
     }
 
     public static TemplateParams quarkusExtensionYamlParams(
@@ -266,6 +381,82 @@ public class CqUtils {
         return sb.toString();
     }
 
+    /**
+     * Transforms the given {@code string} (typically a config option name) into a lower case string usable as an
+     * AsciiDoc anchor: accented latin letters are transliterated to ASCII, dots and any other characters except ASCII
+     * letters, digits, {@code _} and {@code -} become {@code -}, the {@code 's} of possessives is kept without the
+     * apostrophe, consecutive dashes are collapsed and leading and trailing dashes removed.
+     *
+     * @param  string the string to transform
+     * @return        the anchor
+     * @since         4.26.1
+     */
+    public static String toAnchor(String string) {
+        string = Normalizer.normalize(string, Normalizer.Form.NFKC);
+
+        /* Transliterate and replace dots */
+        final StringBuilder transliterated = new StringBuilder(string.length() + 8);
+        for (int i = 0; i < string.length(); i++) {
+            final char c = string.charAt(i);
+            final String replacement = c < ANCHOR_TRANSLITERATIONS.length ? ANCHOR_TRANSLITERATIONS[c] : null;
+            if (replacement != null) {
+                transliterated.append(replacement);
+            } else {
+                transliterated.append(c == '.' ? '-' : c);
+            }
+        }
+
+        final StringBuilder result = new StringBuilder(transliterated.length());
+        final int len = transliterated.length();
+        int i = 0;
+        while (i < len) {
+            final char c = transliterated.charAt(i);
+            if (isAsciiLowerCase(c)
+                    && i + 3 < len
+                    && transliterated.charAt(i + 1) == '\''
+                    && transliterated.charAt(i + 2) == 's'
+                    && !isAsciiLowerCase(transliterated.charAt(i + 3))) {
+                /* Apostrophes: x's -> xs followed by a non-letter which cannot start another possessive */
+                appendAnchorChar(result, c);
+                appendAnchorChar(result, 's');
+                final int cp = transliterated.codePointAt(i + 3);
+                appendAnchorChar(result, cp);
+                i += 3 + Character.charCount(cp);
+            } else {
+                final int cp = transliterated.codePointAt(i);
+                appendAnchorChar(result, cp);
+                i += Character.charCount(cp);
+            }
+        }
+        /* Get rid of the trailing - */
+        final int end = result.length() > 0 && result.charAt(result.length() - 1) == '-' ? result.length() - 1
+                : result.length();
+        return result.substring(0, end);
+    }
+
+    static boolean isAsciiLowerCase(int c) {
+        return c >= 'a' && c <= 'z';
+    }
+
+    /**
+     * Append {@code cp} lower cased if it is an ASCII letter, digit, {@code _} or {@code -}; append {@code -} otherwise.
+     * Never append {@code -} to an empty {@link StringBuilder} or after another {@code -}.
+     */
+    static void appendAnchorChar(StringBuilder result, int cp) {
+        final char c;
+        if (isAsciiLowerCase(cp) || (cp >= '0' && cp <= '9') || cp == '_') {
+            c = (char) cp;
+        } else if (cp >= 'A' && cp <= 'Z') {
+            c = (char) (cp + ('a' - 'A'));
+        } else {
+            if (result.length() == 0 || result.charAt(result.length() - 1) == '-') {
+                return;
+            }
+            c = '-';
+        }
+        result.append(c);
+    }
+
     public static String getJavaPackage(String groupId, String javaPackageInfix, String artifactId) {
         final Stack<String> segments = new Stack<>();
         for (String segment : groupId.split("[.\\-]+")) {
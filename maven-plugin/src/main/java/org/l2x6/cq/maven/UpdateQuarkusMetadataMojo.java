@@ -17,16 +17,22 @@
 package org.l2x6.cq.maven;
 
 import freemarker.template.Configuration;
+import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -41,6 +47,8 @@ import org.l2x6.cq.common.CqCatalog;
 import org.l2x6.cq.common.CqCatalog.Flavor;
 import org.l2x6.cq.common.CqCommonUtils;
 import org.l2x6.cq.common.ExtensionStatus;
+import org.l2x6.cq.common.OutputFiles;
+import org.l2x6.cq.common.ParallelTasks;
 
 /**
  * Updates {@code quarkus-extension.yaml} files in extension modules based on the info from Camel Catalog.
@@ -61,71 +69,108 @@ public class UpdateQuarkusMetadataMojo extends AbstractExtensionListMojo {
     @Parameter(defaultValue = CqUtils.DEFAULT_TEMPLATES_URI_BASE, required = true, property = "cq.templatesUriBase")
     String templatesUriBase;
 
+    /**
+     * The number of threads to use for regenerating the {@code quarkus-extension.yaml} files. Values less than
+     * {@code 1} mean the number of available processors.
+     *
+     * @since 4.26.1
+     */
+    @Parameter(property = "cq.parallelism", defaultValue = "0")
+    int parallelism;
+
+    /**
+     * A file where to cache the config prefixes found in {@code *Config.java} files between runs. A cached prefix is
+     * reused as long as the last modification time of its source file stays the same.
+     *
+     * @since 4.26.1
+     */
+    @Parameter(defaultValue = "${project.build.directory}/cq-maven-plugin/config-prefixes.txt", property = "cq.configPrefixesCacheFile")
+    File configPrefixesCacheFile;
+
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException {
         final CqCatalog catalog = new CqCatalog(Flavor.camel);
-        final List<String> errors = new ArrayList<>();
-        findExtensions()
+        /* Written to by multiple threads; sorted before reporting so that the output is deterministic */
+        final List<String> errors = Collections.synchronizedList(new ArrayList<>());
+        final Configuration cfg = CqUtils.getTemplateConfig(multiModuleProjectDirectory.toPath(),
+                CqUtils.DEFAULT_TEMPLATES_URI_BASE,
+                templatesUriBase, encoding);
+        final OutputFiles outputFiles = new OutputFiles();
+        final ConfigPrefixCache configPrefixCache = configPrefixesCacheFile == null
+                ? new ConfigPrefixCache()
+                : ConfigPrefixCache.load(configPrefixesCacheFile.toPath());
+        final List<ExtensionModule> extModules = findExtensions()
                 .filter(extModule -> !extModule.getArtifactIdBase().startsWith("support-"))
-                .forEach(extModule -> {
-                    final String artifactIdBase = extModule.getArtifactIdBase();
-                    final Path quarkusExtensionsYamlPath = extModule.getExtensionDir()
-                            .resolve("runtime/src/main/resources/META-INF/quarkus-extension.yaml");
-                    getLog().info("Regenerating " + multiModuleProjectDirectory.toPath().relativize(quarkusExtensionsYamlPath));
-                    final List<ArtifactModel<?>> models = catalog.primaryModel(artifactIdBase);
-                    final Model runtimePom = CqCommonUtils.readPom(extModule.getRuntimePomPath(), StandardCharsets.UTF_8);
-                    final Path relativeRuntimePomPath = multiModuleProjectDirectory.toPath()
-                            .relativize(extModule.getRuntimePomPath());
-
-                    final String name = runtimePom.getName();
-                    if (!name.endsWith(NAME_SUFFIX)) {
-                        throw new RuntimeException("The name in " + relativeRuntimePomPath + " must end with '" + NAME_SUFFIX
-                                + "'; found: " + name);
-                    }
-                    final int startDelimPos = name.lastIndexOf(" :: ", name.length() - NAME_SUFFIX.length() - 1);
-                    if (startDelimPos < 0) {
-                        throw new RuntimeException(
-                                "The name in " + relativeRuntimePomPath + " must start with '<whatever> :: '; found: " + name);
-                    }
-                    final String titleBase = name.substring(startDelimPos + 4, name.length() - NAME_SUFFIX.length());
-                    final String rawKeywords = runtimePom.getProperties().getProperty("quarkus.metadata.keywords");
-                    final Set<String> configPrefixes = resolveConfigPrefixes(extModule, runtimePom);
-                    final List<String> keywords = rawKeywords != null ? Arrays.asList(rawKeywords.split(","))
-                            : Collections.emptyList();
-                    final boolean unlisted = runtimePom.getProperties().containsKey("quarkus.metadata.unlisted")
-                            ? Boolean.parseBoolean(runtimePom.getProperties().getProperty("quarkus.metadata.unlisted"))
-                            : !extModule.isNativeSupported();
-                    final boolean deprecated = models.stream()
-                            .filter(m -> m.getName().equals(artifactIdBase))
-                            .findFirst()
-                            .map(ArtifactModel::isDeprecated)
-                            .orElse(false)
-                            || Boolean
-                                    .parseBoolean(runtimePom.getProperties()
-                                            .getProperty("quarkus.metadata.deprecated", "false"));
-
-                    final ExtensionStatus status = ExtensionStatus.valueOf(runtimePom.getProperties().getProperty(
-                            "quarkus.metadata.status", ExtensionStatus.stable.toString()));
-
-                    final TemplateParams templateParams = CqUtils.quarkusExtensionYamlParams(models, artifactIdBase, titleBase,
-                            runtimePom.getDescription(), configPrefixes, keywords, unlisted, deprecated,
-                            extModule.isNativeSupported(), status,
-                            multiModuleProjectDirectory.toPath(), getLog(), errors);
-                    final Configuration cfg = CqUtils.getTemplateConfig(multiModuleProjectDirectory.toPath(),
-                            CqUtils.DEFAULT_TEMPLATES_URI_BASE,
-                            templatesUriBase, encoding);
-
-                    CqUtils.evalTemplate(cfg, "quarkus-extension.yaml", quarkusExtensionsYamlPath, templateParams,
-                            m -> {
-                            });
-
-                });
+                .collect(Collectors.toList());
+        /* Build the artifactId lookup before starting the workers so that none of them touches DefaultCamelCatalog */
+        catalog.modelsByArtifactId();
+        final List<BufferedLog> logs = ParallelTasks.map(extModules, parallelism, extModule -> {
+            final BufferedLog log = new BufferedLog(getLog());
+            final String artifactIdBase = extModule.getArtifactIdBase();
+            final Path quarkusExtensionsYamlPath = extModule.getExtensionDir()
+                    .resolve("runtime/src/main/resources/META-INF/quarkus-extension.yaml");
+            log.info("Regenerating " + multiModuleProjectDirectory.toPath().relativize(quarkusExtensionsYamlPath));
+            final List<ArtifactModel<?>> models = catalog.primaryModel(artifactIdBase);
+            final Model runtimePom = CqCommonUtils.readPom(extModule.getRuntimePomPath(), StandardCharsets.UTF_8);
+            final Path relativeRuntimePomPath = multiModuleProjectDirectory.toPath()
+                    .relativize(extModule.getRuntimePomPath());
+
+            final String name = runtimePom.getName();
+            if (!name.endsWith(NAME_SUFFIX)) {
+                throw new RuntimeException("The name in " + relativeRuntimePomPath + " must end with '" + NAME_SUFFIX
+                        + "'; found: " + name);
+            }
+            final int startDelimPos = name.lastIndexOf(" :: ", name.length() - NAME_SUFFIX.length() - 1);
+            if (startDelimPos < 0) {
+                throw new RuntimeException(
+                        "The name in " + relativeRuntimePomPath + " must start with '<whatever> :: '; found: " + name);
+            }
+            final String titleBase = name.substring(startDelimPos + 4, name.length() - NAME_SUFFIX.length());
+            final String rawKeywords = runtimePom.getProperties().getProperty("quarkus.metadata.keywords");
+            final Set<String> configPrefixes = resolveConfigPrefixes(extModule, runtimePom, configPrefixCache);
+            final List<String> keywords = rawKeywords != null ? Arrays.asList(rawKeywords.split(","))
+                    : Collections.emptyList();
+            final boolean unlisted = runtimePom.getProperties().containsKey("quarkus.metadata.unlisted")
+                    ? Boolean.parseBoolean(runtimePom.getProperties().getProperty("quarkus.metadata.unlisted"))
+                    : !extModule.isNativeSupported();
+            final boolean deprecated = models.stream()
+                    .filter(m -> m.getName().equals(artifactIdBase))
+                    .findFirst()
+                    .map(ArtifactModel::isDeprecated)
+                    .orElse(false)
+                    || Boolean
+                            .parseBoolean(runtimePom.getProperties()
+                                    .getProperty("quarkus.metadata.deprecated", "false"));
+
+            final ExtensionStatus status = ExtensionStatus.valueOf(runtimePom.getProperties().getProperty(
+                    "quarkus.metadata.status", ExtensionStatus.stable.toString()));
+
+            final TemplateParams templateParams = CqUtils.quarkusExtensionYamlParams(models, artifactIdBase, titleBase,
+                    runtimePom.getDescription(), configPrefixes, keywords, unlisted, deprecated,
+                    extModule.isNativeSupported(), status,
+                    multiModuleProjectDirectory.toPath(), log, errors);
+            CqUtils.evalTemplate(cfg, "quarkus-extension.yaml", quarkusExtensionsYamlPath, templateParams,
+                    m -> {
+                    }, outputFiles);
+            return log;
+        });
+        /* Keep the order of the extensions in the output no matter which one was finished first */
+        logs.forEach(log -> log.replay(getLog()));
+        if (configPrefixesCacheFile != null) {
+            configPrefixCache.store(configPrefixesCacheFile.toPath());
+        }
+        getLog().info("quarkus-extension.yaml files: " + outputFiles.summary());
         if (!errors.isEmpty()) {
-            throw new MojoFailureException(errors.stream().collect(Collectors.joining("\n")));
+            throw new MojoFailureException(errors.stream().sorted().collect(Collectors.joining("\n")));
         }
     }
 
     static Set<String> resolveConfigPrefixes(ExtensionModule extension, Model runtimePom) {
+        return resolveConfigPrefixes(extension, runtimePom, new ConfigPrefixCache());
+    }
+
+    static Set<String> resolveConfigPrefixes(ExtensionModule extension, Model runtimePom,
+            ConfigPrefixCache configPrefixCache) {
         Set<String> configPrefixes = new TreeSet<>();
 
         // Try to determine extension config prefixes from a property in the runtime pom.xml or fallback to parsing config Java source code
@@ -137,13 +182,9 @@ public class UpdateQuarkusMetadataMojo extends AbstractExtensionListMojo {
                 stream.filter(Files::isRegularFile)
                         .filter(path -> path.getFileName().toString().endsWith("Config.java"))
                         .forEach(path -> {
-                            try {
-                                Matcher matcher = CONFIG_PREFIX_PATTERN.matcher(Files.readString(path));
-                                if (matcher.find()) {
-                                    configPrefixes.add(matcher.group(1));
-                                }
-                            } catch (IOException e) {
-                                throw new RuntimeException(e);
+                            final String prefix = configPrefixCache.getConfigPrefix(path);
+                            if (prefix != null) {
+                                configPrefixes.add(prefix);
                             }
                         });
             } catch (IOException e) {
@@ -154,4 +195,95 @@ public class UpdateQuarkusMetadataMojo extends AbstractExtensionListMojo {
         return configPrefixes;
     }
 
+    /**
+     * Remembers the config prefix found in each {@code *Config.java} file together with the last modification time
+     * of the file, so that unchanged files do not need to be read again. Safe for use by multiple threads.
+     */
+    static class ConfigPrefixCache {
+        /** An empty prefix stands for a file with no config prefix */
+        private final Map<Path, Entry> cached;
+        /** Only the entries looked up during the current run are stored, so that deleted files are forgotten */
+        private final Map<Path, Entry> used = new ConcurrentHashMap<>();
+
+        ConfigPrefixCache() {
+            this(Collections.emptyMap());
+        }
+
+        ConfigPrefixCache(Map<Path, Entry> cached) {
+            this.cached = cached;
+        }
+
+        /**
+         * @param  file the cache file to read
+         * @return      a new {@link ConfigPrefixCache} initialized from the given {@code file} or an empty one if
+         *              the {@code file} does not exist
+         */
+        static ConfigPrefixCache load(Path file) {
+            if (!Files.isRegularFile(file)) {
+                return new ConfigPrefixCache();
+            }
+            final Map<Path, Entry> entries = new HashMap<>();
+            try {
+                for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                    final String[] parts = line.split("\t", -1);
+                    if (parts.length == 3) {
+                        entries.put(Paths.get(parts[0]), new Entry(Long.parseLong(parts[1]), parts[2]));
+                    }
+                }
+            } catch (IOException | NumberFormatException e) {
+                /* A corrupt cache is as good as no cache */
+                return new ConfigPrefixCache();
+            }
+            return new ConfigPrefixCache(entries);
+        }
+
+        /**
+         * @param  javaFile the {@code *Config.java} file to scan
+         * @return          the config prefix declared in the given {@code javaFile} or {@code null} if there is none
+         */
+        String getConfigPrefix(Path javaFile) {
+            final Path key = javaFile.toAbsolutePath().normalize();
+            final long lastModified;
+            try {
+                lastModified = Files.getLastModifiedTime(javaFile).toMillis();
+            } catch (IOException e) {
+                throw new RuntimeException("Could not read the last modification time of " + javaFile, e);
+            }
+            Entry entry = cached.get(key);
+            if (entry == null || entry.lastModified != lastModified) {
+                try {
+                    final Matcher matcher = CONFIG_PREFIX_PATTERN.matcher(Files.readString(javaFile));
+                    entry = new Entry(lastModified, matcher.find() ? matcher.group(1) : "");
+                } catch (IOException e) {
+                    throw new RuntimeException("Could not read " + javaFile, e);
+                }
+            }
+            used.put(key, entry);
+            return entry.prefix.isEmpty() ? null : entry.prefix;
+        }
+
+        /**
+         * Writes the entries looked up via {@link #getConfigPrefix(Path)} to the given {@code file} unless it has the
+         * same content already.
+         *
+         * @param file the cache file to write
+         */
+        void store(Path file) {
+            final String content = new TreeMap<>(used).entrySet().stream()
+                    .map(en -> en.getKey() + "\t" + en.getValue().lastModified + "\t" + en.getValue().prefix + "\n")
+                    .collect(Collectors.joining());
+            OutputFiles.writeIfChanged(file, content.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static class Entry {
+            private final long lastModified;
+            private final String prefix;
+
+            Entry(long lastModified, String prefix) {
+                this.lastModified = lastModified;
+                this.prefix = prefix;
+            }
+        }
+    }
+
 }
@@ -16,12 +16,12 @@
  */
 package org.l2x6.cq.maven;
 
-import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
-import org.apache.camel.tooling.model.BaseModel;
+import java.util.stream.Collectors;
+import org.apache.camel.tooling.model.Kind;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
@@ -31,9 +31,11 @@ import org.apache.maven.plugins.annotations.Parameter;
 import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.repository.RemoteRepository;
+import org.l2x6.cq.common.CatalogIndex;
 import org.l2x6.cq.common.CqCatalog;
 import org.l2x6.cq.common.CqCatalog.Flavor;
 import org.l2x6.cq.common.CqCatalog.GavCqCatalog;
+import org.l2x6.cq.common.ParallelTasks;
 
 /**
  * Prepares a report upon releasing a new Camel Quarkus version.
@@ -51,6 +53,15 @@ public class VersionReportMojo extends AbstractMojo {
     @Parameter(property = "cq.versions")
     String versions;
 
+    /**
+     * The number of threads to use for processing the individual kinds of catalog models. Values less than 1 mean the
+     * number of available processors.
+     *
+     * @since 4.26.1
+     */
+    @Parameter(property = "cq.parallelism", defaultValue = "0")
+    int parallelism;
+
     @Parameter(defaultValue = "${settings.localRepository}", readonly = true)
     String localRepository;
 
@@ -77,50 +88,46 @@ public class VersionReportMojo extends AbstractMojo {
         final StringBuilder details = new StringBuilder();
 
         try (GavCqCatalog currentCatalog = GavCqCatalog.open(localRepositoryPath, Flavor.camelQuarkus, reportVersion,
-                repositories, repoSystem, repoSession);
+                repositories, repoSystem, repoSession, parallelism, getLog());
                 GavCqCatalog previousCatalog = GavCqCatalog.open(localRepositoryPath, Flavor.camelQuarkus, baselineVersion,
-                        repositories, repoSystem, repoSession)) {
+                        repositories, repoSystem, repoSession, parallelism, getLog())) {
 
-            CqCatalog.kinds().forEach(kind -> {
-                final String pluralName = CqUtils.toCapCamelCase(kind.name() + "s");
+            final List<Kind> kinds = CqCatalog.kinds().collect(Collectors.toList());
+            final List<String[]> countsAndDetails = ParallelTasks.map(kinds, parallelism, kind -> {
+                final StringBuilder kindDetails = new StringBuilder();
                 final AtomicInteger cnt = new AtomicInteger();
-                final String kindItem = pluralName + ":\n";
-                details.append(kindItem);
-                currentCatalog.models(kind)
-                        .sorted(BaseModel.compareTitle())
+                currentCatalog.entries(kind)
+                        .sorted(CatalogIndex.Entry.compareTitle())
                         .forEach(currentModel -> {
                             if (reportVersion.equals(currentModel.getFirstVersion())) {
                                 /* added in this version */
-                                details.append("• ").append(currentModel.getTitle());
+                                kindDetails.append("• ").append(currentModel.getTitle());
                                 if (!currentModel.isNativeSupported()) {
-                                    details.append(" (JVM only)");
+                                    kindDetails.append(" (JVM only)");
                                 }
-                                details.append('\n');
+                                kindDetails.append('\n');
                                 cnt.incrementAndGet();
                             } else {
                                 /* added earlier */
                                 if (currentModel.isNativeSupported()) {
                                     /* It is native now, check whether was JVM in the previous version */
-                                    try {
-                                        BaseModel<?> previousModel = previousCatalog.load(kind, currentModel.getName());
-                                        if (previousModel != null && !previousModel.isNativeSupported()) {
-                                            details.append("• ").append(currentModel.getTitle()).append(" +native")
-                                                    .append('\n');
-                                        }
-                                    } catch (RuntimeException e) {
-                                        if (e.getCause().getClass() == NoSuchFileException.class) {
-
-                                        }
-                                    }
+                                    previousCatalog.entry(kind, currentModel.getName())
+                                            .filter(previousModel -> !previousModel.isNativeSupported())
+                                            .ifPresent(previousModel -> kindDetails.append("• ")
+                                                    .append(currentModel.getTitle()).append(" +native").append('\n'));
                                 }
                             }
                         });
-                if (cnt.get() == 0) {
-                    details.delete(details.length() - kindItem.length(), details.length());
-                } else {
-                    counts.append("• ").append(cnt.get()).append(" new ").append(kind.name()).append("s\n");
-                }
+                final String pluralName = CqUtils.toCapCamelCase(kind.name() + "s");
+                return new String[] {
+                        cnt.get() == 0 ? "" : "• " + cnt.get() + " new " + kind.name() + "s\n",
+                        kindDetails.length() == 0 ? "" : pluralName + ":\n" + kindDetails };
             });
+            /* Results come in the order of kinds, no matter which kind was finished first */
+            for (String[] countAndDetails : countsAndDetails) {
+                counts.append(countAndDetails[0]);
+                details.append(countAndDetails[1]);
+            }
         }
 
         getLog().info("Counts:\n\n\n" + counts.toString() + "\n\n");
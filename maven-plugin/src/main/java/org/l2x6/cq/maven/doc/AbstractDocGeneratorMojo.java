@@ -33,7 +33,7 @@ import org.l2x6.cq.common.CqCommonUtils;
 import org.l2x6.cq.maven.CqUtils;
 
 /**
- * Base for {@link UpdateDocsMojo} and {@link UpdateDocPageMojo}.
+ * Base for {@link UpdateDocsMojo}, {@link UpdateDocPageMojo} and {@link UpdateAllDocsMojo}.
  *
  * @since 3.4.0
  */
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2020 CQ Maven Plugin
+ * project contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.l2x6.cq.maven.doc;
+
+import freemarker.template.Configuration;
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.model.PluginExecution;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+import org.l2x6.cq.common.CqCommonUtils;
+import org.l2x6.cq.common.OutputFiles;
+import org.l2x6.cq.common.ParallelTasks;
+import org.l2x6.cq.maven.CqUtils;
+import org.l2x6.cq.maven.doc.UpdateDocPageMojo.ConfigOptionsParams;
+import org.l2x6.pom.tuner.ExpressionEvaluator;
+import org.l2x6.pom.tuner.MavenSourceTree;
+import org.l2x6.pom.tuner.MavenSourceTree.ActiveProfiles;
+import org.l2x6.pom.tuner.model.Dependency;
+import org.l2x6.pom.tuner.model.Expression;
+import org.l2x6.pom.tuner.model.Ga;
+import org.l2x6.pom.tuner.model.Module;
+
+/**
+ * Performs the work of {@code update-doc-page} for all extensions in the source tree and then the work of
+ * {@code update-docs} in a single execution, so that the documentation can be regenerated without building the
+ * whole reactor. The extensions are discovered via {@link MavenSourceTree} the same way as in {@code update-docs}.
+ * <p>
+ * Note that the configuration options are read from the output of the Quarkus config doc annotation processor under
+ * {@code target/quarkus-config-doc} of the runtime and deployment modules. Hence the extensions need to be compiled
+ * beforehand.
+ * <p>
+ * The parameters of this mojo apply to all extensions. Extensions configuring their {@code update-doc-page}
+ * execution in their own {@code pom.xml} are not supported and make this mojo fail.
+ *
+ * @since 4.26.1
+ */
+@Mojo(name = "update-all-docs", threadSafe = true, aggregator = true)
+public class UpdateAllDocsMojo extends AbstractDocGeneratorMojo {
+
+    /**
+     * The path to Antora navigation file.
+     *
+     * @since 4.26.1
+     */
+    @Parameter(defaultValue = "${maven.multiModuleProjectDirectory}/docs/modules/ROOT/nav.adoc")
+    File navFile;
+
+    /**
+     * The extensions reference index file
+     *
+     * @since 4.26.1
+     */
+    @Parameter(defaultValue = "${maven.multiModuleProjectDirectory}/docs/modules/ROOT/pages/reference/index.adoc")
+    File referenceIndexFile;
+
+    /**
+     * See {@link UpdateDocPageMojo#ownLinkPattern}.
+     *
+     * @since 4.26.1
+     */
+    @Parameter(property = "cq.ownLinkPattern")
+    String ownLinkPattern;
+
+    /**
+     * See {@link UpdateDocPageMojo#configOptionExcludes}.
+     *
+     * @since 4.26.1
+     */
+    @Parameter(property = "cq.configOptionExcludes")
+    List<String> configOptionExcludes;
+
+    /**
+     * See {@link UpdateDocPageMojo#descriptionReplacements}.
+     *
+     * @since 4.26.1
+     */
+    @Parameter(property = "cq.descriptionReplacements")
+    List<String> descriptionReplacements;
+
+    /**
+     * A delimiter for {@link #descriptionReplacements}.
+     *
+     * @since 4.26.1
+     */
+    @Parameter(defaultValue = "/", property = "cq.descriptionReplacementDelimiter")
+    String descriptionReplacementDelimiter;
+
+    /**
+     * The number of threads to use for generating the extension pages. Values less than {@code 1} mean the number of
+     * available processors.
+     *
+     * @since 4.26.1
+     */
+    @Parameter(property = "cq.parallelism", defaultValue = "0")
+    int parallelism;
+
+    /**
+     * If {@code true}, the this mojo is not executed; otherwise it is executed.
+     *
+     * @since 4.26.1
+     */
+    @Parameter(defaultValue = "false", property = "cq.update-all-docs.skip")
+    boolean skip = false;
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        if (skip) {
+            getLog().info("Skipping per user request");
+            return;
+        }
+        final long start = System.currentTimeMillis();
+        final Path rootDir = getMultiModuleProjectDirectoryPath();
+        final MavenSourceTree tree = MavenSourceTree.of(rootDir.resolve("pom.xml"), getCharset(), Dependency::isVirtual);
+        final ExpressionEvaluator eval = tree.getExpressionEvaluator(ActiveProfiles.of());
+        final List<Module> runtimeModules = UpdateDocsMojo.findDocumentedExtensions(tree, eval, rootDir, getCharset(),
+                parallelism);
+        /* The evaluator is not meant to be shared by multiple threads, so resolve everything that needs it upfront */
+        final List<DocumentedExtension> extensions = new ArrayList<>(runtimeModules.size());
+        for (Module runtimeModule : runtimeModules) {
+            final Ga runtimeGa = eval.evaluateGa(runtimeModule.getGav());
+            final Module deploymentModule = tree.getModulesByGa()
+                    .get(new Ga(runtimeGa.getGroupId(), runtimeGa.getArtifactId() + "-deployment"));
+            if (deploymentModule == null) {
+                throw new MojoFailureException("Could not find the deployment module " + runtimeGa.getGroupId() + ":"
+                        + runtimeGa.getArtifactId() + "-deployment of " + runtimeModule.getPomPath());
+            }
+            final Path runtimePomPath = rootDir.resolve(runtimeModule.getPomPath());
+            final Path deploymentPomPath = rootDir.resolve(deploymentModule.getPomPath());
+            final Model runtimeModel = CqCommonUtils.readPom(runtimePomPath, getCharset());
+            assertNoUpdateDocPageConfiguration(runtimeModel, runtimePomPath);
+            assertNoUpdateDocPageConfiguration(CqCommonUtils.readPom(deploymentPomPath, getCharset()), deploymentPomPath);
+            extensions.add(new DocumentedExtension(
+                    runtimePomPath.getParent(),
+                    deploymentPomPath.getParent(),
+                    effectiveModel(tree, eval, runtimeModule, runtimeModel)));
+        }
+
+        final OutputFiles outputFiles = new OutputFiles();
+        final ConfigOptionsParams configOptionsParams = ConfigOptionsParams.of(ownLinkPattern, configOptionExcludes,
+                descriptionReplacements, descriptionReplacementDelimiter);
+        ParallelTasks.forEach(extensions, parallelism, (extension, log) -> {
+            final MavenProject runtimeProject = new MavenProject(extension.runtimeModel);
+            final Configuration cfg = CqUtils.getTemplateConfig(extension.runtimeModuleDir, DEFAULT_TEMPLATES_URI_BASE,
+                    templatesUriBase, getCharset().toString());
+            final boolean changed = UpdateDocPageMojo.updateDocPage(rootDir, extension.runtimeModuleDir,
+                    extension.deploymentModuleDir, runtimeProject, cfg, getCharset(), configOptionsParams, outputFiles);
+            log.accept((changed ? "Updated" : "Up to date:") + " the documentation page of "
+                    + runtimeProject.getArtifactId());
+        }, getLog()::debug);
+
+        UpdateDocsMojo.updateDocs(
+                rootDir,
+                docsBaseDir.toPath(),
+                navFile.toPath(),
+                referenceIndexFile.toPath(),
+                getCharset(),
+                eval,
+                runtimeModules,
+                parallelism);
+        getLog().info("Updated the documentation of " + runtimeModules.size() + " extensions in "
+                + (System.currentTimeMillis() - start) + " ms; extension pages: " + outputFiles.summary());
+    }
+
+    /**
+     * The raw {@code pom.xml} of a runtime module lacks the values inherited from its parents and its expressions are
+     * not interpolated. This sets the coordinates, name, description and properties of the given {@code rawModel}
+     * to their effective values within the given source {@code tree}, so that the page is the same as the one
+     * {@code update-doc-page} would generate in a reactor build.
+     *
+     * @param  tree          the source tree containing {@code runtimeModule}
+     * @param  eval          the {@link ExpressionEvaluator} of the given {@code tree}
+     * @param  runtimeModule the runtime module of an extension
+     * @param  rawModel      the {@code pom.xml} of {@code runtimeModule} as it is stored on disk
+     * @return               the given {@code rawModel} having the effective values set
+     */
+    static Model effectiveModel(MavenSourceTree tree, ExpressionEvaluator eval, Module runtimeModule, Model rawModel) {
+        final Ga ga = eval.evaluateGa(runtimeModule.getGav());
+        rawModel.setGroupId(ga.getGroupId());
+        rawModel.setArtifactId(ga.getArtifactId());
+        if (rawModel.getName() != null) {
+            rawModel.setName(eval.evaluate(Expression.of(rawModel.getName(), ga)));
+        }
+        if (rawModel.getDescription() != null) {
+            rawModel.setDescription(eval.evaluate(Expression.of(rawModel.getDescription(), ga)));
+        }
+        final Properties properties = new Properties();
+        /* From the module up through its parents; properties defined closer to the module win */
+        Module module = runtimeModule;
+        while (module != null) {
+            for (String key : module.getProfiles().get(0).getProperties().keySet()) {
+                if (!properties.containsKey(key)) {
+                    properties.setProperty(key, eval.evaluate(Expression.of("${" + key + "}", ga)));
+                }
+            }
+            module = module.getParentGav() == null ? null
+                    : tree.getModulesByGa().get(eval.evaluateGa(module.getParentGav()));
+        }
+        rawModel.setProperties(properties);
+        return rawModel;
+    }
+
+    /**
+     * {@code update-all-docs} uses its own parameters for all extensions. Hence it refuses to run if an extension
+     * configures {@code update-doc-page} differently in its own {@code pom.xml}, because the resulting page would
+     * differ from the one produced by {@code update-doc-page}.
+     *
+     * @param  model                 the {@code pom.xml} of a runtime or deployment module
+     * @param  pomPath               the path {@code model} was read from
+     * @throws IllegalStateException if {@code model} configures {@code update-doc-page}
+     */
+    static void assertNoUpdateDocPageConfiguration(Model model, Path pomPath) {
+        if (model.getBuild() == null) {
+            return;
+        }
+        for (Plugin plugin : model.getBuild().getPlugins()) {
+            if (!"cq-maven-plugin".equals(plugin.getArtifactId())) {
+                continue;
+            }
+            for (PluginExecution execution : plugin.getExecutions()) {
+                if (execution.getGoals().contains(UpdateDocPageMojo.UPDATE_DOC_PAGE)
+                        && (execution.getConfiguration() != null || plugin.getConfiguration() != null)) {
+                    throw new IllegalStateException(pomPath + " configures " + UpdateDocPageMojo.UPDATE_DOC_PAGE
+                            + ", which is not supported by update-all-docs; move the configuration to the"
+                            + " update-all-docs execution or use update-doc-page instead");
+                }
+            }
+        }
+    }
+
+    static class DocumentedExtension {
+        private final Path runtimeModuleDir;
+        private final Path deploymentModuleDir;
+        private final Model runtimeModel;
+
+        DocumentedExtension(Path runtimeModuleDir, Path deploymentModuleDir, Model runtimeModel) {
+            this.runtimeModuleDir = runtimeModuleDir;
+            this.deploymentModuleDir = deploymentModuleDir;
+            this.runtimeModel = runtimeModel;
+        }
+    }
+
+}
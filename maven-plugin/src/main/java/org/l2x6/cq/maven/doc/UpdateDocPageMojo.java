@@ -16,6 +16,8 @@
  */
 package org.l2x6.cq.maven.doc;
 
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
 import freemarker.template.Configuration;
 import freemarker.template.TemplateMethodModelEx;
 import freemarker.template.TemplateModelException;
@@ -32,21 +34,29 @@ import io.quarkus.annotation.processor.documentation.config.model.Extension;
 import io.quarkus.annotation.processor.documentation.config.model.JavadocElements.JavadocElement;
 import io.quarkus.annotation.processor.documentation.config.util.Types;
 import java.io.IOException;
-import java.io.StringWriter;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URISyntaxException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystemNotFoundException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.text.Normalizer;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Properties;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -59,11 +69,13 @@ import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
 import org.l2x6.cq.common.CqCommonUtils;
+import org.l2x6.cq.common.OutputFiles;
 import org.l2x6.cq.maven.CqUtils;
 import org.l2x6.cq.maven.doc.processor.AppendNewLinePostProcessor;
 import org.l2x6.cq.maven.doc.processor.AsciiDocFile;
 import org.l2x6.cq.maven.doc.processor.DocumentationPostProcessor;
 import org.l2x6.cq.maven.doc.processor.SectionIdPostProcessor;
+import org.l2x6.pom.tuner.PomTunerUtils;
 
 /**
  * Updates the given extension's documentation page in the {@code docs} module based on data in the current module.
@@ -75,6 +87,15 @@ import org.l2x6.cq.maven.doc.processor.SectionIdPostProcessor;
 @Mojo(name = UpdateDocPageMojo.UPDATE_DOC_PAGE, threadSafe = true)
 public class UpdateDocPageMojo extends AbstractDocGeneratorMojo {
     static final String UPDATE_DOC_PAGE = "update-doc-page";
+    /** Where the Quarkus config doc annotation processor stores its output */
+    static final String QUARKUS_CONFIG_DOC_PATH = "target/quarkus-config-doc";
+    /** Where the config options of the extension are cached between executions */
+    static final String CONFIG_OPTIONS_CACHE_PATH = "target/cq-maven-plugin/config-options.json";
+    /** Where the post-processed sections of the extension page are cached between executions */
+    static final String SECTIONS_CACHE_PATH = "target/cq-maven-plugin/doc-sections";
+    private static final String PLUGIN_POM_PROPERTIES = "/META-INF/maven/org.l2x6.cq/cq-maven-plugin/pom.properties";
+    /** See {@link #pluginFingerprint()} */
+    static final String PLUGIN_FINGERPRINT = pluginFingerprint();
     private static final String TOOLTIP_MACRO = "tooltip:%s[%s]";
     private static final String MORE_INFO_ABOUT_TYPE_FORMAT = "link:#%s[icon:question-circle[title=More information about the %s format]]";
 
@@ -169,33 +190,40 @@ public class UpdateDocPageMojo extends AbstractDocGeneratorMojo {
             getLog().info("Skipping a module that is nether Quarkus extension runtime nor deployment module");
             return;
         }
-        final Pattern ownLinkRe = ownLinkPattern != null ? Pattern.compile(ownLinkPattern) : null;
-        final List<Pattern> configOptionExcludeRes = new ArrayList<>();
-        if (configOptionExcludes != null) {
-            for (String pattern : configOptionExcludes) {
-                configOptionExcludeRes.add(Pattern.compile(pattern));
-            }
-        }
-        final List<Map.Entry<Pattern, String>> descriptionReplacementRes = new ArrayList<>();
-        if (descriptionReplacements != null) {
-            for (String entry : descriptionReplacements) {
-                int i = entry.indexOf(descriptionReplacementDelimiter);
-                if (i < 0) {
-                    throw new IllegalStateException("descriptionReplacements '" + entry + "' sould contain delimiter '"
-                            + descriptionReplacementDelimiter + "'");
-                }
-                final String pattern = entry.substring(0, i);
-                final String replacement = entry.substring(i + descriptionReplacementDelimiter.length());
-                descriptionReplacementRes.add(new AbstractMap.SimpleImmutableEntry<>(Pattern.compile(pattern), replacement));
-            }
-        }
-
         final Configuration cfg = CqUtils.getTemplateConfig(runtimeModuleDir, DEFAULT_TEMPLATES_URI_BASE, templatesUriBase,
                 getCharset().toString());
+        final boolean changed = updateDocPage(
+                getMultiModuleProjectDirectoryPath(),
+                runtimeModuleDir,
+                deploymentModuleDir,
+                runtimeProject,
+                cfg,
+                getCharset(),
+                ConfigOptionsParams.of(ownLinkPattern, configOptionExcludes, descriptionReplacements,
+                        descriptionReplacementDelimiter),
+                new OutputFiles());
+        getLog().info((changed ? "Updated" : "Up to date:") + " the documentation page of " + runtimeProject.getArtifactId());
+    }
 
+    /**
+     * Renders the documentation page of the extension consisting of the given runtime and deployment modules into
+     * {@code docs/modules/ROOT/pages/reference/extensions/<artifactId>.adoc} under the given
+     * {@code multiModuleProjectDir}.
+     *
+     * @return {@code true} if the page was written; {@code false} if it was up to date already
+     */
+    static boolean updateDocPage(
+            Path multiModuleProjectDir,
+            Path runtimeModuleDir,
+            Path deploymentModuleDir,
+            MavenProject runtimeProject,
+            Configuration cfg,
+            Charset charset,
+            ConfigOptionsParams configOptionsParams,
+            OutputFiles outputFiles) {
         final Map<String, Object> model = new HashMap<>();
         final String artifactId = runtimeProject.getArtifactId();
-        final Path docPagePath = getMultiModuleProjectDirectoryPath()
+        final Path docPagePath = multiModuleProjectDir
                 .resolve("docs/modules/ROOT/pages/reference/extensions/" + artifactId + ".adoc");
         model.put("artifactId", artifactId);
         model.put("groupId", runtimeProject.getGroupId());
@@ -209,18 +237,18 @@ public class UpdateDocPageMojo extends AbstractDocGeneratorMojo {
         model.put("unlisted",
                 Boolean.parseBoolean(runtimeProject.getProperties().getProperty("quarkus.metadata.unlisted", "false")));
         model.put("intro",
-                loadSection(runtimeModuleDir, "intro.adoc", getCharset(), artifactId, runtimeProject.getDescription()));
-        model.put("standards", loadSection(runtimeModuleDir, "standards.adoc", getCharset(), artifactId, null));
-        model.put("usage", loadSection(runtimeModuleDir, "usage.adoc", getCharset(), artifactId, null));
-        model.put("usageAdvanced", loadSection(runtimeModuleDir, "usage-advanced.adoc", getCharset(), artifactId, null));
-        model.put("configuration", loadSection(runtimeModuleDir, "configuration.adoc", getCharset(), artifactId, null));
-        model.put("limitations", loadSection(runtimeModuleDir, "limitations.adoc", getCharset(), artifactId, null));
-        final List<ConfigItem> configOptions = listConfigOptions(
+                loadSection(runtimeModuleDir, "intro.adoc", charset, artifactId, runtimeProject.getDescription()));
+        model.put("standards", loadSection(runtimeModuleDir, "standards.adoc", charset, artifactId, null));
+        model.put("usage", loadSection(runtimeModuleDir, "usage.adoc", charset, artifactId, null));
+        model.put("usageAdvanced", loadSection(runtimeModuleDir, "usage-advanced.adoc", charset, artifactId, null));
+        model.put("configuration", loadSection(runtimeModuleDir, "configuration.adoc", charset, artifactId, null));
+        model.put("limitations", loadSection(runtimeModuleDir, "limitations.adoc", charset, artifactId, null));
+        final List<ConfigItem> configOptions = listConfigOptionsCached(
                 runtimeModuleDir,
                 deploymentModuleDir,
-                ownLinkRe,
-                configOptionExcludeRes,
-                descriptionReplacementRes,
+                configOptionsParams.ownLinkRe,
+                configOptionsParams.configOptionExcludeRes,
+                configOptionsParams.descriptionReplacementRes,
                 artifactId);
         model.put("configOptions", configOptions);
         model.put("hasDurationOption", configOptions.stream().anyMatch(ConfigItem::isTypeDuration));
@@ -231,62 +259,10 @@ public class UpdateDocPageMojo extends AbstractDocGeneratorMojo {
                 if (arguments.size() != 1) {
                     throw new TemplateModelException("Wrong argument count in toAnchor()");
                 }
-                String string = String.valueOf(arguments.get(0));
-                string = Normalizer.normalize(string, Normalizer.Form.NFKC)
-                        .replaceAll("[àáâãäåāąă]", "a")
-                        .replaceAll("[çćčĉċ]", "c")
-                        .replaceAll("[ďđð]", "d")
-                        .replaceAll("[èéêëēęěĕė]", "e")
-                        .replaceAll("[ƒſ]", "f")
-                        .replaceAll("[ĝğġģ]", "g")
-                        .replaceAll("[ĥħ]", "h")
-                        .replaceAll("[ìíîïīĩĭįı]", "i")
-                        .replaceAll("[ĳĵ]", "j")
-                        .replaceAll("[ķĸ]", "k")
-                        .replaceAll("[łľĺļŀ]", "l")
-                        .replaceAll("[ñńňņŉŋ]", "n")
-                        .replaceAll("[òóôõöøōőŏœ]", "o")
-                        .replaceAll("[Þþ]", "p")
-                        .replaceAll("[ŕřŗ]", "r")
-                        .replaceAll("[śšşŝș]", "s")
-                        .replaceAll("[ťţŧț]", "t")
-                        .replaceAll("[ùúûüūůűŭũų]", "u")
-                        .replaceAll("[ŵ]", "w")
-                        .replaceAll("[ýÿŷ]", "y")
-                        .replaceAll("[žżź]", "z")
-                        .replaceAll("[æ]", "ae")
-                        .replaceAll("[ÀÁÂÃÄÅĀĄĂ]", "A")
-                        .replaceAll("[ÇĆČĈĊ]", "C")
-                        .replaceAll("[ĎĐÐ]", "D")
-                        .replaceAll("[ÈÉÊËĒĘĚĔĖ]", "E")
-                        .replaceAll("[ĜĞĠĢ]", "G")
-                        .replaceAll("[ĤĦ]", "H")
-                        .replaceAll("[ÌÍÎÏĪĨĬĮİ]", "I")
-                        .replaceAll("[Ĵ]", "J")
-                        .replaceAll("[Ķ]", "K")
-                        .replaceAll("[ŁĽĹĻĿ]", "L")
-                        .replaceAll("[ÑŃŇŅŊ]", "N")
-                        .replaceAll("[ÒÓÔÕÖØŌŐŎ]", "O")
-                        .replaceAll("[ŔŘŖ]", "R")
-                        .replaceAll("[ŚŠŞŜȘ]", "S")
-                        .replaceAll("[ÙÚÛÜŪŮŰŬŨŲ]", "U")
-                        .replaceAll("[Ŵ]", "W")
-                        .replaceAll("[ÝŶŸ]", "Y")
-                        .replaceAll("[ŹŽŻ]", "Z")
-                        .replaceAll("[ß]", "ss");
-                string = string.replace('.', '-');
-
-                // Apostrophes.
-                string = string.replaceAll("([a-z])'s([^a-z])", "$1s$2");
-                // Allow only letters, -, _, .
-                string = string.replaceAll("[^\\w-_.]", "-").replaceAll("-{2,}", "-");
-                // Get rid of any - at the start and end.
-                string = string.replaceAll("-+$", "").replaceAll("^-+", "");
-
-                return string.toLowerCase();
+                return CqUtils.toAnchor(String.valueOf(arguments.get(0)));
             }
         });
-        evalTemplate(getCharset(), docPagePath, cfg, model, "extension-doc-page.adoc", "//");
+        return evalTemplate(charset, docPagePath, cfg, model, "extension-doc-page.adoc", "//", outputFiles);
     }
 
     public static String extensionName(Model project) {
@@ -302,32 +278,28 @@ public class UpdateDocPageMojo extends AbstractDocGeneratorMojo {
         return String.valueOf(val);
     }
 
-    static void evalTemplate(final Charset charset, final Path docPagePath, final Configuration cfg,
-            final Map<String, Object> model, String template, String commentMarker) {
-        try {
-            Files.createDirectories(docPagePath.getParent());
-        } catch (IOException e) {
-            throw new RuntimeException("Could not create directories " + docPagePath.getParent(), e);
-        }
-        String pageText = commentMarker
-                + " Do not edit directly!\n"
-                + commentMarker
-                + " This file was generated by cq-maven-plugin:" + UPDATE_DOC_PAGE + "\n"
-                + evalTemplate(cfg, template, model, new StringWriter());
-        try {
-            String oldContent = "";
-            if (Files.exists(docPagePath)) {
-                oldContent = Files.readString(docPagePath, StandardCharsets.UTF_8);
+    static boolean evalTemplate(final Charset charset, final Path docPagePath, final Configuration cfg,
+            final Map<String, Object> model, String template, String commentMarker, OutputFiles outputFiles) {
+        return outputFiles.write(docPagePath, charset, out -> {
+            try {
+                out.write(commentMarker
+                        + " Do not edit directly!\n"
+                        + commentMarker
+                        + " This file was generated by cq-maven-plugin:" + UPDATE_DOC_PAGE + "\n");
+            } catch (IOException e) {
+                throw new RuntimeException("Could not write to " + docPagePath, e);
             }
-            if (!oldContent.equals(pageText)) {
-                Files.write(docPagePath, pageText.getBytes(charset));
-            }
-        } catch (IOException e) {
-            throw new RuntimeException("Could not write to " + docPagePath, e);
-        }
+            evalTemplate(cfg, template, model, out);
+        });
     }
 
-    private static String loadSection(
+    /**
+     * Reads the given section of the extension page from {@code src/main/doc} and passes it through the
+     * {@link #documentationPostProcessors}. The processed content is cached under {@link #SECTIONS_CACHE_PATH} in
+     * the runtime module and reused as long as the {@link #sectionFingerprint(String, String, String)} stays the
+     * same.
+     */
+    static String loadSection(
             Path basePath,
             String fileName,
             Charset charset,
@@ -336,15 +308,170 @@ public class UpdateDocPageMojo extends AbstractDocGeneratorMojo {
         Path p = basePath.resolve("src/main/doc/" + fileName);
         if (Files.exists(p)) {
             AsciiDocFile file = new AsciiDocFile(p, artifactId, charset);
+            final String fingerprint = sectionFingerprint(file.getContent(), artifactId, fileName);
+            final Path cachePath = basePath.resolve(SECTIONS_CACHE_PATH).resolve(fileName + ".json");
+            final Gson gson = new Gson();
+            if (Files.isRegularFile(cachePath)) {
+                try (Reader r = Files.newBufferedReader(cachePath, StandardCharsets.UTF_8)) {
+                    final CachedSection cached = gson.fromJson(r, CachedSection.class);
+                    if (cached != null && fingerprint.equals(cached.fingerprint) && cached.content != null) {
+                        return cached.content;
+                    }
+                } catch (IOException | JsonParseException e) {
+                    /* Ignore a broken cache and process the section again */
+                }
+            }
             for (DocumentationPostProcessor processor : documentationPostProcessors) {
                 processor.process(file);
             }
+            try {
+                Files.createDirectories(cachePath.getParent());
+                try (Writer w = Files.newBufferedWriter(cachePath, StandardCharsets.UTF_8)) {
+                    gson.toJson(new CachedSection(fingerprint, file.getContent()), w);
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("Could not write " + cachePath, e);
+            }
             return file.getContent();
         } else {
             return defaultValue;
         }
     }
 
+    /**
+     * @return a SHA-256 hash of the given unprocessed section {@code content}, of the other inputs of the
+     *         {@link #documentationPostProcessors} and of {@link #PLUGIN_FINGERPRINT}
+     */
+    static String sectionFingerprint(String content, String artifactId, String fileName) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+        update(digest, PLUGIN_FINGERPRINT);
+        update(digest, artifactId);
+        /* The doc type is derived from the file name */
+        update(digest, fileName);
+        update(digest, content);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Reuses the {@link ConfigItem}s stored under {@link #CONFIG_OPTIONS_CACHE_PATH} in the runtime module by a
+     * previous execution if neither the output of the Quarkus config doc annotation processor in the runtime and
+     * deployment modules nor the parameters affecting the result have changed since then. Otherwise computes them
+     * via {@link #listConfigOptions(Path, Path, Pattern, List, List, String)} and stores them for the next time.
+     */
+    static List<ConfigItem> listConfigOptionsCached(
+            Path runtimeModuleDir,
+            Path deploymentModuleDir,
+            Pattern ownLinkRe,
+            List<Pattern> configOptionExcludeRes,
+            List<Entry<Pattern, String>> descriptionReplacementRes,
+            String artifactIdBase) {
+        final String fingerprint = configOptionsFingerprint(runtimeModuleDir, deploymentModuleDir, ownLinkRe,
+                configOptionExcludeRes, descriptionReplacementRes, artifactIdBase);
+        final Path cachePath = runtimeModuleDir.resolve(CONFIG_OPTIONS_CACHE_PATH);
+        final Gson gson = new Gson();
+        if (Files.isRegularFile(cachePath)) {
+            try (Reader r = Files.newBufferedReader(cachePath, StandardCharsets.UTF_8)) {
+                final CachedConfigOptions cached = gson.fromJson(r, CachedConfigOptions.class);
+                if (cached != null && fingerprint.equals(cached.fingerprint) && cached.configOptions != null) {
+                    return cached.configOptions;
+                }
+            } catch (IOException | JsonParseException e) {
+                /* Ignore a broken cache and compute the options again */
+            }
+        }
+        final List<ConfigItem> result = listConfigOptions(runtimeModuleDir, deploymentModuleDir, ownLinkRe,
+                configOptionExcludeRes, descriptionReplacementRes, artifactIdBase);
+        try {
+            Files.createDirectories(cachePath.getParent());
+            try (Writer w = Files.newBufferedWriter(cachePath, StandardCharsets.UTF_8)) {
+                gson.toJson(new CachedConfigOptions(fingerprint, result), w);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Could not write " + cachePath, e);
+        }
+        return result;
+    }
+
+    static String configOptionsFingerprint(
+            Path runtimeModuleDir,
+            Path deploymentModuleDir,
+            Pattern ownLinkRe,
+            List<Pattern> configOptionExcludeRes,
+            List<Entry<Pattern, String>> descriptionReplacementRes,
+            String artifactIdBase) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+        /* A different build of this plugin may render the options differently */
+        update(digest, PLUGIN_FINGERPRINT);
+        update(digest, artifactIdBase);
+        update(digest, ownLinkRe != null ? ownLinkRe.pattern() : null);
+        configOptionExcludeRes.forEach(re -> update(digest, re.pattern()));
+        descriptionReplacementRes.forEach(en -> {
+            update(digest, en.getKey().pattern());
+            update(digest, en.getValue());
+        });
+        for (Path moduleDir : List.of(runtimeModuleDir, deploymentModuleDir)) {
+            final Path configDocDir = moduleDir.resolve(QUARKUS_CONFIG_DOC_PATH);
+            update(digest, moduleDir.getFileName().toString());
+            if (Files.isDirectory(configDocDir)) {
+                try (Stream<Path> files = Files.walk(configDocDir)) {
+                    for (Path file : files.filter(Files::isRegularFile).sorted().collect(Collectors.toList())) {
+                        update(digest, PomTunerUtils.toUnixPath(configDocDir.relativize(file).toString()));
+                        digest.update(Files.readAllBytes(file));
+                    }
+                } catch (IOException e) {
+                    throw new RuntimeException("Could not read " + configDocDir, e);
+                }
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * @return the version of this plugin plus the location, size and last modification time of its jar, so that
+     *         rebuilding a SNAPSHOT of this plugin invalidates the caches
+     */
+    static String pluginFingerprint() {
+        final StringBuilder result = new StringBuilder();
+        try (InputStream in = UpdateDocPageMojo.class.getResourceAsStream(PLUGIN_POM_PROPERTIES)) {
+            if (in != null) {
+                final Properties props = new Properties();
+                props.load(in);
+                result.append(props.getProperty("version"));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read " + PLUGIN_POM_PROPERTIES, e);
+        }
+        final CodeSource codeSource = UpdateDocPageMojo.class.getProtectionDomain().getCodeSource();
+        if (codeSource != null && codeSource.getLocation() != null) {
+            result.append('|').append(codeSource.getLocation());
+            try {
+                final Path jar = Path.of(codeSource.getLocation().toURI());
+                if (Files.isRegularFile(jar)) {
+                    result.append('|').append(Files.size(jar))
+                            .append('|').append(Files.getLastModifiedTime(jar).toMillis());
+                }
+            } catch (URISyntaxException | IllegalArgumentException | FileSystemNotFoundException | IOException e) {
+                /* Not a local file; the location has to do */
+            }
+        }
+        return result.toString();
+    }
+
+    static void update(MessageDigest digest, String value) {
+        digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
     static List<ConfigItem> listConfigOptions(
             Path runtimeModuleDir,
             Path deploymentModuleDir,
@@ -405,6 +532,71 @@ public class UpdateDocPageMojo extends AbstractDocGeneratorMojo {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * The compiled forms of the parameters affecting the config options listed on an extension page.
+     */
+    static class ConfigOptionsParams {
+        private final Pattern ownLinkRe;
+        private final List<Pattern> configOptionExcludeRes;
+        private final List<Map.Entry<Pattern, String>> descriptionReplacementRes;
+
+        ConfigOptionsParams(Pattern ownLinkRe, List<Pattern> configOptionExcludeRes,
+                List<Entry<Pattern, String>> descriptionReplacementRes) {
+            this.ownLinkRe = ownLinkRe;
+            this.configOptionExcludeRes = configOptionExcludeRes;
+            this.descriptionReplacementRes = descriptionReplacementRes;
+        }
+
+        static ConfigOptionsParams of(
+                String ownLinkPattern,
+                List<String> configOptionExcludes,
+                List<String> descriptionReplacements,
+                String descriptionReplacementDelimiter) {
+            final Pattern ownLinkRe = ownLinkPattern != null ? Pattern.compile(ownLinkPattern) : null;
+            final List<Pattern> configOptionExcludeRes = new ArrayList<>();
+            if (configOptionExcludes != null) {
+                for (String pattern : configOptionExcludes) {
+                    configOptionExcludeRes.add(Pattern.compile(pattern));
+                }
+            }
+            final List<Map.Entry<Pattern, String>> descriptionReplacementRes = new ArrayList<>();
+            if (descriptionReplacements != null) {
+                for (String entry : descriptionReplacements) {
+                    int i = entry.indexOf(descriptionReplacementDelimiter);
+                    if (i < 0) {
+                        throw new IllegalStateException("descriptionReplacements '" + entry + "' sould contain delimiter '"
+                                + descriptionReplacementDelimiter + "'");
+                    }
+                    final String pattern = entry.substring(0, i);
+                    final String replacement = entry.substring(i + descriptionReplacementDelimiter.length());
+                    descriptionReplacementRes
+                            .add(new AbstractMap.SimpleImmutableEntry<>(Pattern.compile(pattern), replacement));
+                }
+            }
+            return new ConfigOptionsParams(ownLinkRe, configOptionExcludeRes, descriptionReplacementRes);
+        }
+    }
+
+    static class CachedConfigOptions {
+        private final String fingerprint;
+        private final List<ConfigItem> configOptions;
+
+        CachedConfigOptions(String fingerprint, List<ConfigItem> configOptions) {
+            this.fingerprint = fingerprint;
+            this.configOptions = configOptions;
+        }
+    }
+
+    static class CachedSection {
+        private final String fingerprint;
+        private final String content;
+
+        CachedSection(String fingerprint, String content) {
+            this.fingerprint = fingerprint;
+            this.content = content;
+        }
+    }
+
     public static class ConfigItem {
 
         private final String key;
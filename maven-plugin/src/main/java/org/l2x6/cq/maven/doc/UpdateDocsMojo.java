@@ -18,21 +18,28 @@ package org.l2x6.cq.maven.doc;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.Profile;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.l2x6.cq.common.CqCommonUtils;
 import org.l2x6.cq.common.ExtensionStatus;
+import org.l2x6.cq.common.OutputFiles;
+import org.l2x6.cq.common.ParallelTasks;
 import org.l2x6.pom.tuner.ExpressionEvaluator;
 import org.l2x6.pom.tuner.MavenSourceTree;
 import org.l2x6.pom.tuner.MavenSourceTree.ActiveProfiles;
@@ -55,6 +62,7 @@ import org.l2x6.pom.tuner.model.Module;
 public class UpdateDocsMojo extends AbstractDocGeneratorMojo {
 
     private static final Pattern ADOC_ENDING_PATTERN = Pattern.compile("\\.adoc$");
+    private static final String CQ_MAVEN_PLUGIN_ARTIFACT_ID = "cq-maven-plugin";
 
     /**
      * The path to Antora navigation file.
@@ -76,6 +84,15 @@ public class UpdateDocsMojo extends AbstractDocGeneratorMojo {
     @Parameter(defaultValue = "false", property = "cq.update-docs.skip")
     boolean skip = false;
 
+    /**
+     * The number of threads to use for reading the {@code pom.xml} and {@code standards.adoc} files of the
+     * extensions. Values less than {@code 1} mean the number of available processors.
+     *
+     * @since 4.26.1
+     */
+    @Parameter(property = "cq.parallelism", defaultValue = "0")
+    int parallelism;
+
     /**
      * Execute goal.
      *
@@ -91,16 +108,34 @@ public class UpdateDocsMojo extends AbstractDocGeneratorMojo {
             return;
         }
 
-        final Path docsBasePath = docsBaseDir.toPath();
-
-        final Set<String> artifactIds = new HashSet<>();
-        final StringBuilder extLinks = new StringBuilder();
-        final StringBuilder standards = new StringBuilder();
-
         final MavenSourceTree tree = MavenSourceTree.of(getMultiModuleProjectDirectoryPath().resolve("pom.xml"), getCharset(),
                 Dependency::isVirtual);
         final ExpressionEvaluator eval = tree.getExpressionEvaluator(ActiveProfiles.of());
-        tree.getModulesByPath().values().stream()
+        updateDocs(
+                getMultiModuleProjectDirectoryPath(),
+                docsBaseDir.toPath(),
+                navFile.toPath(),
+                referenceIndexFile.toPath(),
+                getCharset(),
+                eval,
+                findDocumentedExtensions(tree, eval, getMultiModuleProjectDirectoryPath(), getCharset(), parallelism),
+                parallelism);
+    }
+
+    /**
+     * @param  tree        the source tree to search
+     * @param  eval        the {@link ExpressionEvaluator} of the given {@code tree}
+     * @param  rootDir     the root directory of the given {@code tree}
+     * @param  charset     the encoding of the {@code pom.xml} files
+     * @param  parallelism the number of threads to use for reading the {@code pom.xml} files; see
+     *                     {@link ParallelTasks#resolveParallelism(int)}
+     * @return             the runtime modules of extensions having a deployment module and an {@code update-doc-page}
+     *                     execution
+     */
+    static List<Module> findDocumentedExtensions(MavenSourceTree tree, ExpressionEvaluator eval, Path rootDir,
+            Charset charset, int parallelism) {
+        /* Only the modules declaring cq-maven-plugin in their parsed model can have an update-doc-page execution */
+        final List<Module> candidates = tree.getModulesByPath().values().stream()
                 .map(module -> new Ga(
                         eval.evaluate(module.getGav().getGroupId()),
                         eval.evaluate(module.getGav().getArtifactId())))
@@ -109,43 +144,73 @@ public class UpdateDocsMojo extends AbstractDocGeneratorMojo {
                         .get(new Ga(deploymentGa.getGroupId(),
                                 deploymentGa.getArtifactId().substring(0,
                                         deploymentGa.getArtifactId().length() - "-deployment".length()))))
-                .filter(this::hasUpdateDocPageExecution)
-                .forEach(runtimeModule -> {
-                    final String artifactId = runtimeModule.getGav().getArtifactId().asConstant();
-                    artifactIds.add(artifactId);
-                    final String shortName = getProperty(runtimeModule, eval, "cq.name",
-                            () -> CqCommonUtils.getNameBase(runtimeModule.getName()));
-                    extLinks.append("** xref:reference/extensions/" + artifactId + ".adoc[" + shortName + "]\n");
-                    final Path standardsFile = getMultiModuleProjectDirectoryPath().resolve(runtimeModule.getPomPath())
-                            .getParent().resolve("src/main/doc/standards.adoc");
-                    final String name = shortName.startsWith("Quarkus CXF") ? shortName : ("Quarkus CXF " + shortName);
-                    standards.append("\n| xref:reference/extensions/" + artifactId + ".adoc[" + name + "] +\n`"
-                            + artifactId + "`\n|");
-
-                    final String status = getProperty(runtimeModule, eval, "quarkus.metadata.status", () -> "stable");
-                    standards.append(ExtensionStatus.valueOf(status).getCapitalized());
-                    final boolean deprecated = Boolean
-                            .parseBoolean(getProperty(runtimeModule, eval, "quarkus.metadata.deprecated", () -> "false"));
-                    standards.append(deprecated ? "\n⚠️Deprecated\n|" : "\n|");
-
-                    final String since = getProperty(runtimeModule, eval, "cq.since", () -> "");
-                    standards.append(since).append("\n|");
-                    if (Files.isRegularFile(standardsFile)) {
-                        try (Stream<String> lines = Files.lines(standardsFile, getCharset())) {
-                            standards.append(lines
-                                    .filter(line -> line.startsWith("* "))
-                                    .filter(line -> line.indexOf(']') >= 0)
-                                    .map(line -> line.substring("* ".length(), line.indexOf(']') + 1))
-                                    .collect(Collectors.joining(", ")));
-                        } catch (IOException e) {
-                            throw new RuntimeException("Could not read " + standardsFile);
-                        }
-                    }
-                    standards.append('\n');
-                });
+                .filter(runtimeModule -> runtimeModule != null && declaresCqMavenPlugin(runtimeModule, eval))
+                .collect(Collectors.toList());
+        final List<Boolean> documented = ParallelTasks.map(candidates, parallelism,
+                runtimeModule -> hasUpdateDocPageExecution(rootDir, runtimeModule, charset));
+        final List<Module> result = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            if (documented.get(i)) {
+                result.add(candidates.get(i));
+            }
+        }
+        return result;
+    }
 
-        replace(navFile.toPath(), "extensions", extLinks.toString());
-        replace(referenceIndexFile.toPath(), "standards", standards.toString());
+    static boolean declaresCqMavenPlugin(Module module, ExpressionEvaluator eval) {
+        return module.getProfiles().stream()
+                .flatMap(profile -> Stream.concat(profile.getPlugins().stream(), profile.getPluginManagement().stream()))
+                .anyMatch(plugin -> CQ_MAVEN_PLUGIN_ARTIFACT_ID.equals(eval.evaluate(plugin.getArtifactId())));
+    }
+
+    /**
+     * Synchronizes the extension list in {@code nav.adoc} and the standards table in the reference index with the
+     * given {@code runtimeModules} and deletes the extension pages not belonging to any of them.
+     */
+    static void updateDocs(
+            Path rootDir,
+            Path docsBasePath,
+            Path navFile,
+            Path referenceIndexFile,
+            Charset charset,
+            ExpressionEvaluator eval,
+            List<Module> runtimeModules,
+            int parallelism) {
+
+        final Set<String> artifactIds = new HashSet<>();
+        final StringBuilder extLinks = new StringBuilder();
+        final StringBuilder standards = new StringBuilder();
+
+        /* Read the standards.adoc files in parallel; the rest is in-memory work on the parsed models */
+        final List<String> standardsLists = ParallelTasks.map(runtimeModules, parallelism,
+                runtimeModule -> readStandards(
+                        rootDir.resolve(runtimeModule.getPomPath()).getParent().resolve("src/main/doc/standards.adoc"),
+                        charset));
+        for (int i = 0; i < runtimeModules.size(); i++) {
+            final Module runtimeModule = runtimeModules.get(i);
+            final String artifactId = runtimeModule.getGav().getArtifactId().asConstant();
+            artifactIds.add(artifactId);
+            final String shortName = getProperty(runtimeModule, eval, "cq.name",
+                    () -> CqCommonUtils.getNameBase(runtimeModule.getName()));
+            extLinks.append("** xref:reference/extensions/" + artifactId + ".adoc[" + shortName + "]\n");
+            final String name = shortName.startsWith("Quarkus CXF") ? shortName : ("Quarkus CXF " + shortName);
+            standards.append("\n| xref:reference/extensions/" + artifactId + ".adoc[" + name + "] +\n`"
+                    + artifactId + "`\n|");
+
+            final String status = getProperty(runtimeModule, eval, "quarkus.metadata.status", () -> "stable");
+            standards.append(ExtensionStatus.valueOf(status).getCapitalized());
+            final boolean deprecated = Boolean
+                    .parseBoolean(getProperty(runtimeModule, eval, "quarkus.metadata.deprecated", () -> "false"));
+            standards.append(deprecated ? "\n⚠️Deprecated\n|" : "\n|");
+
+            final String since = getProperty(runtimeModule, eval, "cq.since", () -> "");
+            standards.append(since).append("\n|");
+            standards.append(standardsLists.get(i));
+            standards.append('\n');
+        }
+
+        replace(navFile, "extensions", extLinks.toString(), charset);
+        replace(referenceIndexFile, "standards", standards.toString(), charset);
 
         final Path docsExtensionsDir = docsBasePath.resolve("modules/ROOT/pages/reference/extensions");
         try (Stream<Path> docPages = Files.list(docsExtensionsDir)) {
@@ -164,20 +229,38 @@ public class UpdateDocsMojo extends AbstractDocGeneratorMojo {
         }
     }
 
-    void replace(Path path, String replacementKey, String value) {
+    /**
+     * @param  standardsFile the {@code standards.adoc} file of an extension
+     * @param  charset       the encoding of {@code standardsFile}
+     * @return               the comma separated links to the standards listed in {@code standardsFile} or an empty
+     *                       {@link String} if {@code standardsFile} does not exist
+     */
+    static String readStandards(Path standardsFile, Charset charset) {
+        if (!Files.isRegularFile(standardsFile)) {
+            return "";
+        }
+        try (Stream<String> lines = Files.lines(standardsFile, charset)) {
+            return lines
+                    .filter(line -> line.startsWith("* "))
+                    .filter(line -> line.indexOf(']') >= 0)
+                    .map(line -> line.substring("* ".length(), line.indexOf(']') + 1))
+                    .collect(Collectors.joining(", "));
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read " + standardsFile, e);
+        }
+    }
+
+    static void replace(Path path, String replacementKey, String value, Charset charset) {
+        final String oldDocument;
         try {
-            final String oldDocument = new String(Files.readAllBytes(path), getCharset());
-            final String newDocument = replace(oldDocument, path, replacementKey, value);
-            if (!oldDocument.equals(newDocument)) {
-                try {
-                    Files.write(path, newDocument.getBytes(getCharset()));
-                } catch (IOException e) {
-                    throw new RuntimeException("Could not write to " + path, e);
-                }
-            }
+            oldDocument = new String(Files.readAllBytes(path), charset);
         } catch (IOException e) {
             throw new RuntimeException("Could not read from " + path, e);
         }
+        final String newDocument = replace(oldDocument, path, replacementKey, value);
+        if (!oldDocument.equals(newDocument)) {
+            OutputFiles.writeIfChanged(path, newDocument.getBytes(charset));
+        }
     }
 
     static String replace(String document, Path documentPath, String replacementKey, String value) {
@@ -196,14 +279,23 @@ public class UpdateDocsMojo extends AbstractDocGeneratorMojo {
         return sb.toString();
     }
 
-    boolean hasUpdateDocPageExecution(Module module) {
-        final Path pomPath = getMultiModuleProjectDirectoryPath().resolve(module.getPomPath());
-        try {
-            final String pomContent = new String(Files.readAllBytes(pomPath), getCharset());
-            return pomContent.contains("<goal>" + UpdateDocPageMojo.UPDATE_DOC_PAGE + "</goal>");
-        } catch (IOException e) {
-            throw new RuntimeException("Could not read " + pomPath);
-        }
+    /**
+     * @param  rootDir the root directory of the source tree
+     * @param  module  the module whose {@code pom.xml} should be checked
+     * @param  charset the encoding of the {@code pom.xml} file
+     * @return         {@code true} if the {@code cq-maven-plugin} has an {@code update-doc-page} execution in the
+     *                 {@code pom.xml} of the given {@code module} or in any of its profiles; {@code false} otherwise
+     */
+    static boolean hasUpdateDocPageExecution(Path rootDir, Module module, Charset charset) {
+        final Model model = CqCommonUtils.readPom(rootDir.resolve(module.getPomPath()), charset);
+        return Stream.concat(
+                Stream.of(model.getBuild()),
+                model.getProfiles().stream().map(Profile::getBuild))
+                .filter(build -> build != null)
+                .flatMap(build -> build.getPlugins().stream())
+                .filter(plugin -> CQ_MAVEN_PLUGIN_ARTIFACT_ID.equals(plugin.getArtifactId()))
+                .flatMap(plugin -> plugin.getExecutions().stream())
+                .anyMatch(execution -> execution.getGoals().contains(UpdateDocPageMojo.UPDATE_DOC_PAGE));
     }
 
     static String getProperty(Module runtimeModule, ExpressionEvaluator eval, String key, Supplier<String> defaultValue) {
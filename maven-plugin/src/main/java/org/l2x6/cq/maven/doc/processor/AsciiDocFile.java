@@ -50,6 +50,10 @@ public class AsciiDocFile {
         return cqExtension;
     }
 
+    public void setContent(String content) {
+        this.content = content;
+    }
+
     public void append(String contentToAppend) {
         content += contentToAppend;
     }
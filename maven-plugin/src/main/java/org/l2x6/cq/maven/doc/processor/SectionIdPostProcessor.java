@@ -16,6 +16,8 @@
  */
 package org.l2x6.cq.maven.doc.processor;
 
+import java.util.Map.Entry;
+import java.util.TreeMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -24,28 +26,75 @@ import java.util.regex.Pattern;
  */
 public class SectionIdPostProcessor implements DocumentationPostProcessor {
     private static final Pattern PATTERN_ASCIIDOC_HEADING = Pattern.compile("^=+ (.*)", Pattern.MULTILINE);
-    private static final Pattern PATTERN_NON_ALPHA_NUMERIC = Pattern.compile("[^A-Za-z\\d-]");
-    private static final Pattern PATTERN_MULTIPLE_HYPHEN = Pattern.compile("-+");
-    private static final Pattern PATTERN_TRIM_HYPHEN = Pattern.compile("^-|-$");
 
+    /**
+     * Prepends an ID block to every heading of the given {@code file}, collecting the insertion points first and
+     * building the new content in a single pass.
+     * <p>
+     * The output is the same as the one of the former {@code String.replace()} call per heading: all occurrences of
+     * the markup of a heading get its ID block, including repeated headings and headings contained in other
+     * headings.
+     */
     @Override
     public void process(AsciiDocFile file) {
-        Matcher matcher = PATTERN_ASCIIDOC_HEADING.matcher(file.getContent());
-        while (matcher.find()) {
-            String headingMarkup = matcher.group(0);
-            String heading = matcher.group(1);
-            String fileName = file.getPath().getFileName().toString();
-            String docType = fileName.substring(0, fileName.lastIndexOf('.'));
-            String id = generateAsciiDocIdentifier(file.getCqExtension(), docType, heading.toLowerCase().trim());
-            file.replace(headingMarkup, id + headingMarkup);
+        final String content = file.getContent();
+        final Matcher matcher = PATTERN_ASCIIDOC_HEADING.matcher(content);
+        if (!matcher.find()) {
+            return;
         }
+        final String fileName = file.getPath().getFileName().toString();
+        final String docType = fileName.substring(0, fileName.lastIndexOf('.'));
+        /* Offsets in content -> the ID blocks to insert there */
+        final TreeMap<Integer, StringBuilder> ids = new TreeMap<>();
+        do {
+            final String headingMarkup = matcher.group(0);
+            final String heading = matcher.group(1);
+            final String id = generateAsciiDocIdentifier(file.getCqExtension(), docType, heading.toLowerCase().trim());
+            int i = 0;
+            while ((i = content.indexOf(headingMarkup, i)) >= 0) {
+                final int end = i + headingMarkup.length();
+                if (ids.subMap(i, false, end, false).isEmpty()) {
+                    ids.computeIfAbsent(i, k -> new StringBuilder()).append(id);
+                    i = end;
+                } else {
+                    /* An ID block inserted for some previous heading has split this occurrence */
+                    i++;
+                }
+            }
+        } while (matcher.find());
+
+        final StringBuilder result = new StringBuilder(content.length() + ids.size() * 64);
+        int lastEnd = 0;
+        for (Entry<Integer, StringBuilder> en : ids.entrySet()) {
+            result.append(content, lastEnd, en.getKey()).append(en.getValue());
+            lastEnd = en.getKey();
+        }
+        result.append(content, lastEnd, content.length());
+        file.setContent(result.toString());
     }
 
-    private String generateAsciiDocIdentifier(String extension, String docType, String heading) {
-        String sanitizedHeading = String.format("extensions-%s-%s-%s", extension, docType, heading);
-        sanitizedHeading = PATTERN_NON_ALPHA_NUMERIC.matcher(sanitizedHeading).replaceAll("-");
-        sanitizedHeading = PATTERN_MULTIPLE_HYPHEN.matcher(sanitizedHeading).replaceAll("-");
-        sanitizedHeading = PATTERN_TRIM_HYPHEN.matcher(sanitizedHeading).replaceAll("");
-        return String.format("[id=\"%s\"]\n", sanitizedHeading).toLowerCase();
+    static String generateAsciiDocIdentifier(String extension, String docType, String heading) {
+        final String raw = String.format("extensions-%s-%s-%s", extension, docType, heading);
+        /* Replace all chars other than [A-Za-z0-9-] with hyphens, collapse hyphen sequences and trim the hyphens */
+        final StringBuilder sanitizedHeading = new StringBuilder(raw.length() + 8);
+        sanitizedHeading.append("[id=\"");
+        final int start = sanitizedHeading.length();
+        for (int i = 0; i < raw.length(); i++) {
+            char ch = raw.charAt(i);
+            if (!(ch >= 'a' && ch <= 'z' || ch >= 'A' && ch <= 'Z' || ch >= '0' && ch <= '9')) {
+                ch = '-';
+            }
+            if (ch != '-') {
+                sanitizedHeading.append(ch);
+            } else if (sanitizedHeading.length() > start
+                    && sanitizedHeading.charAt(sanitizedHeading.length() - 1) != '-') {
+                sanitizedHeading.append(ch);
+            }
+        }
+        if (sanitizedHeading.length() > start && sanitizedHeading.charAt(sanitizedHeading.length() - 1) == '-') {
+            sanitizedHeading.setLength(sanitizedHeading.length() - 1);
+        }
+        sanitizedHeading.append("\"]\n");
+        return sanitizedHeading.toString().toLowerCase();
     }
 }
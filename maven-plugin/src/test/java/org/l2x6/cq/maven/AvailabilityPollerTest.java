@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2020 CQ Maven Plugin
+ * project contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.l2x6.cq.maven;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class AvailabilityPollerTest {
+
+    @Test
+    void await() throws IOException {
+        /* artifact-i responds with 404 to the first i requests and with 200 afterwards */
+        final Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+        final Map<String, Integer> methodCounts = new ConcurrentHashMap<>();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        final HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        server.setExecutor(executor);
+        server.createContext("/", exchange -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(5);
+                methodCounts.merge(exchange.getRequestMethod(), 1, Integer::sum);
+                final String path = exchange.getRequestURI().getPath();
+                final int availableAfter = Integer.parseInt(path.substring(path.lastIndexOf('-') + 1));
+                final int count = requestCounts.computeIfAbsent(path, k -> new AtomicInteger()).incrementAndGet();
+                exchange.sendResponseHeaders(count > availableAfter ? 200 : 404, -1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+                exchange.close();
+            }
+        });
+        server.start();
+        try {
+            final String base = "http://localhost:" + server.getAddress().getPort() + "/org/acme/artifact-";
+            final List<String> uris = IntStream.range(0, 20).mapToObj(i -> base + (i % 4)).distinct()
+                    .collect(Collectors.toList());
+            final AvailabilityPoller poller = new AvailabilityPoller(HttpClient.newHttpClient(), 2,
+                    Duration.ofMillis(10), Duration.ofMillis(40), Duration.ofSeconds(10), new SystemStreamLog());
+            poller.await(uris);
+
+            /* Each URI is checked until it is available, but never afterwards */
+            for (int i = 0; i < 4; i++) {
+                Assertions.assertThat(requestCounts.get("/org/acme/artifact-" + i).get()).isEqualTo(i + 1);
+            }
+            Assertions.assertThat(methodCounts).containsOnlyKeys("HEAD");
+            Assertions.assertThat(maxInFlight.get()).isLessThanOrEqualTo(2);
+        } finally {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void headNotAllowed() throws IOException {
+        final Map<String, Integer> methodCounts = new ConcurrentHashMap<>();
+        final HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            methodCounts.merge(exchange.getRequestMethod(), 1, Integer::sum);
+            exchange.sendResponseHeaders("HEAD".equals(exchange.getRequestMethod()) ? 405 : 200, -1);
+            exchange.close();
+        });
+        server.start();
+        try {
+            final AvailabilityPoller poller = new AvailabilityPoller(HttpClient.newHttpClient(), 4,
+                    Duration.ofMillis(10), Duration.ofMillis(40), Duration.ofSeconds(10), new SystemStreamLog());
+            poller.await(List.of("http://localhost:" + server.getAddress().getPort() + "/foo.pom"));
+            Assertions.assertThat(methodCounts).isEqualTo(Map.of("HEAD", 1, "GET", 1));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void awaitMetadata() throws IOException {
+        /* The metadata lists 1.0 from the third request on; the ETag changes at the same time */
+        final AtomicInteger metadataRequests = new AtomicInteger();
+        final AtomicInteger notModifiedResponses = new AtomicInteger();
+        final List<String> log = Collections.synchronizedList(new ArrayList<>());
+        final HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/org/acme/a/maven-metadata.xml", exchange -> {
+            final boolean released = metadataRequests.incrementAndGet() >= 3;
+            final String etag = released ? "\"v2\"" : "\"v1\"";
+            log.add("metadata " + released);
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModifiedResponses.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+            } else {
+                final byte[] body = ("<metadata><versioning><versions><version>0.9</version>"
+                        + (released ? "<version>1.0</version>" : "")
+                        + "</versions></versioning></metadata>").getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("ETag", etag);
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+            }
+            exchange.close();
+        });
+        server.createContext("/org/acme/a/1.0/", exchange -> {
+            log.add(exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath());
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+        try {
+            final String base = "http://localhost:" + server.getAddress().getPort() + "/org/acme/a/";
+            final AvailabilityPoller poller = new AvailabilityPoller(HttpClient.newHttpClient(), 4,
+                    Duration.ofMillis(10), Duration.ofMillis(40), Duration.ofSeconds(10), new SystemStreamLog());
+            poller.await(Map.of(base + "maven-metadata.xml", List.of(base + "1.0/a-1.0.pom", base + "1.0/a-1.0.jar")),
+                    "1.0");
+            Assertions.assertThat(log.subList(0, 3)).containsExactly("metadata false", "metadata false", "metadata true");
+            Assertions.assertThat(log.subList(3, 5)).containsExactlyInAnyOrder("HEAD /org/acme/a/1.0/a-1.0.pom",
+                    "HEAD /org/acme/a/1.0/a-1.0.jar");
+            Assertions.assertThat(log).hasSize(5);
+            Assertions.assertThat(notModifiedResponses.get()).isEqualTo(1);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void delay() {
+        final AvailabilityPoller poller = new AvailabilityPoller(HttpClient.newHttpClient(), 4,
+                Duration.ofSeconds(60), Duration.ofSeconds(600), Duration.ofSeconds(10), new SystemStreamLog());
+        Assertions.assertThat(poller.delay(1)).isEqualTo(Duration.ofSeconds(60));
+        Assertions.assertThat(poller.delay(2)).isEqualTo(Duration.ofSeconds(120));
+        Assertions.assertThat(poller.delay(4)).isEqualTo(Duration.ofSeconds(480));
+        Assertions.assertThat(poller.delay(5)).isEqualTo(Duration.ofSeconds(600));
+        Assertions.assertThat(poller.delay(1000)).isEqualTo(Duration.ofSeconds(600));
+    }
+
+}
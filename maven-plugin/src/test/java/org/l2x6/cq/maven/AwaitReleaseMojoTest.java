@@ -16,11 +16,16 @@
  */
 package org.l2x6.cq.maven;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.l2x6.cq.test.utils.TestUtils;
 
 public class AwaitReleaseMojoTest {
     @Test
@@ -38,4 +43,64 @@ public class AwaitReleaseMojoTest {
                 .toList()).containsExactly(docs, tests, core);
 
     }
+
+    @Test
+    void findLocalFiles() throws IOException {
+        final Path baseDir = TestUtils.newProjectDir("await-release-find-local-files");
+        for (String file : List.of(
+                "foo/1.0/foo-1.0.pom",
+                "foo/1.0/foo-1.0.pom.asc",
+                "foo/1.0/foo-1.0.jar",
+                "foo/1.0/foo-1.0.jar.asc",
+                "foo/1.0/foo-1.0-sources.jar",
+                "foo/1.0/foo-1.0-javadoc.jar",
+                "foo/1.0/foo-1.0.module",
+                "foo/1.0/foo-1.0.jar.lastUpdated",
+                "foo/1.0/_remote.repositories",
+                "foo/1.0.1/foo-1.0.1.pom",
+                "foo/maven-metadata-local.xml",
+                "bar/1.0/bar-1.0.pom",
+                "bar-docs/1.0/bar-docs-1.0.pom",
+                "baz/0.9/baz-0.9.pom")) {
+            final Path path = baseDir.resolve(file);
+            Files.createDirectories(path.getParent());
+            Files.writeString(path, file);
+        }
+        final Predicate<Path> artifactIdFilter = AwaitReleaseMojo.artifactIdFilter(List.of("*-docs"));
+
+        Assertions.assertThat(AwaitReleaseMojo.findLocalFiles(baseDir, "1.0", artifactIdFilter, null, 2))
+                .map(Path::toString)
+                .containsExactly(Path.of("bar/1.0/bar-1.0.pom").toString(), Path.of("foo/1.0/foo-1.0.pom").toString());
+
+        Assertions.assertThat(AwaitReleaseMojo.findLocalFiles(baseDir, "1.0", artifactIdFilter,
+                AwaitReleaseMojo.fileFilter(null, null), 2))
+                .map(Path::toString)
+                .containsExactly(
+                        Path.of("bar/1.0/bar-1.0.pom").toString(),
+                        Path.of("foo/1.0/foo-1.0-javadoc.jar").toString(),
+                        Path.of("foo/1.0/foo-1.0-sources.jar").toString(),
+                        Path.of("foo/1.0/foo-1.0.jar").toString(),
+                        Path.of("foo/1.0/foo-1.0.jar.asc").toString(),
+                        Path.of("foo/1.0/foo-1.0.module").toString(),
+                        Path.of("foo/1.0/foo-1.0.pom").toString(),
+                        Path.of("foo/1.0/foo-1.0.pom.asc").toString());
+
+        Assertions.assertThat(AwaitReleaseMojo.findLocalFiles(baseDir, "1.0", artifactIdFilter,
+                AwaitReleaseMojo.fileFilter(List.of("", "sources"), List.of("jar", "pom")), 2))
+                .map(Path::toString)
+                .containsExactly(
+                        Path.of("bar/1.0/bar-1.0.pom").toString(),
+                        Path.of("foo/1.0/foo-1.0-sources.jar").toString(),
+                        Path.of("foo/1.0/foo-1.0.jar").toString(),
+                        Path.of("foo/1.0/foo-1.0.pom").toString());
+    }
+
+    @Test
+    void fileFilter() {
+        final BiPredicate<String, String> filter = AwaitReleaseMojo.fileFilter(List.of("", "sources"), List.of("*.asc"));
+        Assertions.assertThat(filter.test("", "jar.asc")).isTrue();
+        Assertions.assertThat(filter.test("sources", "jar.asc")).isTrue();
+        Assertions.assertThat(filter.test("javadoc", "jar.asc")).isFalse();
+        Assertions.assertThat(filter.test("", "jar")).isFalse();
+    }
 }
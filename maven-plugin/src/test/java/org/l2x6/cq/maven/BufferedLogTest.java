@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2020 CQ Maven Plugin
+ * project contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.l2x6.cq.maven;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class BufferedLogTest {
+
+    @Test
+    void replay() {
+        final List<String> messages = new ArrayList<>();
+        final BufferedLog log = new BufferedLog(new SystemStreamLog());
+        log.info("Regenerating foo");
+        log.warn("foo: expected name base");
+        log.debug("foo: found zero models");
+        log.error("foo: Add and explicit <description>");
+        Assertions.assertThat(messages).isEmpty();
+
+        log.replay(new BufferedLog(new SystemStreamLog()) {
+            @Override
+            void add(Level level, CharSequence content, Throwable error) {
+                messages.add(level + " " + content);
+            }
+        });
+        Assertions.assertThat(messages).containsExactly(
+                "info Regenerating foo",
+                "warn foo: expected name base",
+                "debug foo: found zero models",
+                "error foo: Add and explicit <description>");
+    }
+
+}
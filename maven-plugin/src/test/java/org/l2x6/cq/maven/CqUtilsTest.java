@@ -16,7 +16,13 @@
  */
 package org.l2x6.cq.maven;
 
+import freemarker.template.Configuration;
 import java.io.IOException;
+import java.nio.file.Paths;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -24,6 +30,8 @@ import org.junit.jupiter.api.Test;
 import org.l2x6.pom.tuner.model.Ga;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class CqUtilsTest {
 
@@ -53,4 +61,118 @@ public class CqUtilsTest {
                         .collect(Collectors.toSet()));
     }
 
+    @Test
+    void getTemplateConfig() throws IOException {
+        final Configuration cfg = CqUtils.getTemplateConfig(Paths.get("foo"), CqUtils.DEFAULT_TEMPLATES_URI_BASE,
+                CqUtils.DEFAULT_TEMPLATES_URI_BASE, "utf-8");
+        /* basePath does not matter for classpath: templates */
+        assertSame(cfg, CqUtils.getTemplateConfig(Paths.get("bar"), CqUtils.DEFAULT_TEMPLATES_URI_BASE,
+                CqUtils.DEFAULT_TEMPLATES_URI_BASE, "utf-8"));
+        assertNotSame(cfg, CqUtils.getTemplateConfig(Paths.get("foo"), CqUtils.DEFAULT_TEMPLATES_URI_BASE,
+                CqUtils.DEFAULT_TEMPLATES_URI_BASE, "iso-8859-1"));
+        /* The parsed templates are reused too */
+        assertSame(cfg.getTemplate("quarkus-extension.yaml"), cfg.getTemplate("quarkus-extension.yaml"));
+
+        final Configuration fileCfg = CqUtils.getTemplateConfig(Paths.get("."), CqUtils.DEFAULT_TEMPLATES_URI_BASE,
+                "file:src/test", "utf-8");
+        assertSame(fileCfg, CqUtils.getTemplateConfig(Paths.get("src/.."), CqUtils.DEFAULT_TEMPLATES_URI_BASE,
+                "file:src/test", "utf-8"));
+        assertNotSame(fileCfg, CqUtils.getTemplateConfig(Paths.get("."), CqUtils.DEFAULT_TEMPLATES_URI_BASE,
+                "file:src/main", "utf-8"));
+    }
+
+    @Test
+    void toAnchor() {
+        final List<String> inputs = new ArrayList<>(List.of(
+                "",
+                "-",
+                "quarkus.camel.foo.bar",
+                "quarkus.camel.servlet.\"servlet-name\".url-patterns",
+                "quarkus.camel.foo.\"name\".key-store-file",
+                "quarkus.camel.kafka.kubernetes-service-binding.merge-configuration",
+                "quarkus.camel.native.resources.include-patterns",
+                "Camel's context",
+                "the user's guide",
+                "a's's x",
+                "it's",
+                "It'S fine",
+                "Čeština, Ελληνικά & Русский",
+                "Größe der Ångström-Œuvre",
+                "ﬁle ½ ĳ ŉ ſ ǅ",
+                "..leading.and.trailing..",
+                "--foo--bar__baz--",
+                "emoji \uD83D\uDE00 here",
+                "lone \uD83D surrogate",
+                "tab\tnew\nline"));
+        final String alphabet = "abcsxyzABSZ09_-.' \"àáçđèƒĝĥìĳķłñòÞŕșțùŵýžæÀÇĎÈĜĤÌĴĶŁÑÒŔȘÙŴÝŹßœŀĿ\u00A0\u2019ｆ";
+        final Random random = new Random(42);
+        for (int i = 0; i < 10000; i++) {
+            final StringBuilder sb = new StringBuilder();
+            final int len = random.nextInt(24);
+            for (int j = 0; j < len; j++) {
+                sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            inputs.add(sb.toString());
+        }
+        for (String input : inputs) {
+            assertEquals(toAnchorRegex(input), CqUtils.toAnchor(input), "toAnchor(\"" + input + "\")");
+        }
+    }
+
+    /** The original regular expression based implementation */
+    static String toAnchorRegex(String string) {
+        string = Normalizer.normalize(string, Normalizer.Form.NFKC)
+                .replaceAll("[àáâãäåāąă]", "a")
+                .replaceAll("[çćčĉċ]", "c")
+                .replaceAll("[ďđð]", "d")
+                .replaceAll("[èéêëēęěĕė]", "e")
+                .replaceAll("[ƒſ]", "f")
+                .replaceAll("[ĝğġģ]", "g")
+                .replaceAll("[ĥħ]", "h")
+                .replaceAll("[ìíîïīĩĭįı]", "i")
+                .replaceAll("[ĳĵ]", "j")
+                .replaceAll("[ķĸ]", "k")
+                .replaceAll("[łľĺļŀ]", "l")
+                .replaceAll("[ñńňņŉŋ]", "n")
+                .replaceAll("[òóôõöøōőŏœ]", "o")
+                .replaceAll("[Þþ]", "p")
+                .replaceAll("[ŕřŗ]", "r")
+                .replaceAll("[śšşŝș]", "s")
+                .replaceAll("[ťţŧț]", "t")
+                .replaceAll("[ùúûüūůűŭũų]", "u")
+                .replaceAll("[ŵ]", "w")
+                .replaceAll("[ýÿŷ]", "y")
+                .replaceAll("[žżź]", "z")
+                .replaceAll("[æ]", "ae")
+                .replaceAll("[ÀÁÂÃÄÅĀĄĂ]", "A")
+                .replaceAll("[ÇĆČĈĊ]", "C")
+                .replaceAll("[ĎĐÐ]", "D")
+                .replaceAll("[ÈÉÊËĒĘĚĔĖ]", "E")
+                .replaceAll("[ĜĞĠĢ]", "G")
+                .replaceAll("[ĤĦ]", "H")
+                .replaceAll("[ÌÍÎÏĪĨĬĮİ]", "I")
+                .replaceAll("[Ĵ]", "J")
+                .replaceAll("[Ķ]", "K")
+                .replaceAll("[ŁĽĹĻĿ]", "L")
+                .replaceAll("[ÑŃŇŅŊ]", "N")
+                .replaceAll("[ÒÓÔÕÖØŌŐŎ]", "O")
+                .replaceAll("[ŔŘŖ]", "R")
+                .replaceAll("[ŚŠŞŜȘ]", "S")
+                .replaceAll("[ÙÚÛÜŪŮŰŬŨŲ]", "U")
+                .replaceAll("[Ŵ]", "W")
+                .replaceAll("[ÝŶŸ]", "Y")
+                .replaceAll("[ŹŽŻ]", "Z")
+                .replaceAll("[ß]", "ss");
+        string = string.replace('.', '-');
+
+        // Apostrophes.
+        string = string.replaceAll("([a-z])'s([^a-z])", "$1s$2");
+        // Allow only letters, -, _, .
+        string = string.replaceAll("[^\\w-_.]", "-").replaceAll("-{2,}", "-");
+        // Get rid of any - at the start and end.
+        string = string.replaceAll("-+$", "").replaceAll("^-+", "");
+
+        return string.toLowerCase();
+    }
+
 }
@@ -22,6 +22,7 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.Comparator;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -90,4 +91,32 @@ class UpdateQuarkusMetadataTest {
         assertTrue(configPrefixes.contains("quarkus.camel.foo"));
         assertTrue(configPrefixes.contains("quarkus.camel.bar"));
     }
+
+    @Test
+    void configPrefixCache() throws IOException {
+        final Path configFile = runtimeSrc.resolve("TestRuntimeConfig.java");
+        Files.writeString(configFile, "@ConfigRoot(prefix = \"quarkus.camel.foo\")\npublic class TestRuntimeConfig {}\n");
+        final FileTime lastModified = Files.getLastModifiedTime(configFile);
+        final Path cacheFile = extensionDir.resolve("config-prefixes.txt");
+        final ExtensionModule extensionModule = new ExtensionModule(extensionDir, "test");
+        final Model model = new Model();
+
+        final UpdateQuarkusMetadataMojo.ConfigPrefixCache cache = UpdateQuarkusMetadataMojo.ConfigPrefixCache
+                .load(cacheFile);
+        assertEquals(Set.of("quarkus.camel.foo"),
+                UpdateQuarkusMetadataMojo.resolveConfigPrefixes(extensionModule, model, cache));
+        cache.store(cacheFile);
+        assertTrue(Files.isRegularFile(cacheFile));
+
+        /* Same modification time: the cached prefix is used */
+        Files.writeString(configFile, "@ConfigRoot(prefix = \"quarkus.camel.bar\")\npublic class TestRuntimeConfig {}\n");
+        Files.setLastModifiedTime(configFile, lastModified);
+        assertEquals(Set.of("quarkus.camel.foo"), UpdateQuarkusMetadataMojo.resolveConfigPrefixes(extensionModule, model,
+                UpdateQuarkusMetadataMojo.ConfigPrefixCache.load(cacheFile)));
+
+        /* Changed modification time: the file is scanned again */
+        Files.setLastModifiedTime(configFile, FileTime.fromMillis(lastModified.toMillis() + 2000));
+        assertEquals(Set.of("quarkus.camel.bar"), UpdateQuarkusMetadataMojo.resolveConfigPrefixes(extensionModule, model,
+                UpdateQuarkusMetadataMojo.ConfigPrefixCache.load(cacheFile)));
+    }
 }
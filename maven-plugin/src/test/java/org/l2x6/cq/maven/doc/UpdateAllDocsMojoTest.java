@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2020 CQ Maven Plugin
+ * project contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.l2x6.cq.maven.doc;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import org.apache.maven.model.Model;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.l2x6.cq.common.CqCommonUtils;
+import org.l2x6.cq.test.utils.TestUtils;
+import org.l2x6.pom.tuner.ExpressionEvaluator;
+import org.l2x6.pom.tuner.MavenSourceTree;
+import org.l2x6.pom.tuner.MavenSourceTree.ActiveProfiles;
+import org.l2x6.pom.tuner.model.Module;
+
+public class UpdateAllDocsMojoTest {
+
+    @Test
+    void effectiveModel() throws IOException {
+        final Path rootDir = TestUtils.newProjectDir("update-all-docs-effective-model");
+        UpdateDocsMojoTest.writePom(rootDir, "root", "pom", null,
+                "<properties><quarkus.metadata.status>experimental</quarkus.metadata.status>"
+                        + "<cq.since>1.0.0</cq.since><base.name>Acme</base.name></properties>"
+                        + "<modules><module>foo/runtime</module></modules>");
+        UpdateDocsMojoTest.writePom(rootDir.resolve("foo/runtime"), "foo", "jar", "../../pom.xml",
+                "<name>${base.name} :: Foo :: Runtime</name>"
+                        + "<properties><cq.since>2.0.0</cq.since><cq.name>${base.name} Foo</cq.name></properties>");
+
+        final MavenSourceTree tree = MavenSourceTree.of(rootDir.resolve("pom.xml"), StandardCharsets.UTF_8);
+        final ExpressionEvaluator eval = tree.getExpressionEvaluator(ActiveProfiles.of());
+        final Module runtimeModule = tree.getModulesByPath().get("foo/runtime/pom.xml");
+        final Model model = UpdateAllDocsMojo.effectiveModel(tree, eval, runtimeModule,
+                CqCommonUtils.readPom(rootDir.resolve("foo/runtime/pom.xml"), StandardCharsets.UTF_8));
+
+        Assertions.assertThat(model.getGroupId()).isEqualTo("org.acme");
+        Assertions.assertThat(model.getArtifactId()).isEqualTo("foo");
+        Assertions.assertThat(model.getName()).isEqualTo("Acme :: Foo :: Runtime");
+        /* Inherited */
+        Assertions.assertThat(model.getProperties().getProperty("quarkus.metadata.status")).isEqualTo("experimental");
+        /* Overridden */
+        Assertions.assertThat(model.getProperties().getProperty("cq.since")).isEqualTo("2.0.0");
+        /* Interpolated */
+        Assertions.assertThat(model.getProperties().getProperty("cq.name")).isEqualTo("Acme Foo");
+    }
+
+    @Test
+    void assertNoUpdateDocPageConfiguration() throws IOException {
+        final Path dir = TestUtils.newProjectDir("update-all-docs-assert-no-update-doc-page-configuration");
+        final String plugin = "<build><plugins><plugin><groupId>org.l2x6.cq</groupId>"
+                + "<artifactId>cq-maven-plugin</artifactId><executions><execution><goals>"
+                + "<goal>update-doc-page</goal></goals>%s</execution></executions></plugin></plugins></build>";
+
+        UpdateDocsMojoTest.writePom(dir.resolve("plain"), "plain", "jar", null, String.format(plugin, ""));
+        final Path plainPom = dir.resolve("plain/pom.xml");
+        UpdateAllDocsMojo.assertNoUpdateDocPageConfiguration(CqCommonUtils.readPom(plainPom, StandardCharsets.UTF_8),
+                plainPom);
+
+        UpdateDocsMojoTest.writePom(dir.resolve("configured"), "configured", "jar", null,
+                String.format(plugin, "<configuration><ownLinkPattern>foo</ownLinkPattern></configuration>"));
+        final Path configuredPom = dir.resolve("configured/pom.xml");
+        final Model configured = CqCommonUtils.readPom(configuredPom, StandardCharsets.UTF_8);
+        Assertions.assertThatThrownBy(() -> UpdateAllDocsMojo.assertNoUpdateDocPageConfiguration(configured,
+                configuredPom))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(configuredPom.toString());
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2020 CQ Maven Plugin
+ * project contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.l2x6.cq.maven.doc;
+
+import com.google.gson.Gson;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.l2x6.cq.maven.doc.UpdateDocPageMojo.CachedConfigOptions;
+import org.l2x6.cq.maven.doc.UpdateDocPageMojo.CachedSection;
+import org.l2x6.cq.maven.doc.UpdateDocPageMojo.ConfigItem;
+import org.l2x6.cq.test.utils.TestUtils;
+
+public class UpdateDocPageMojoTest {
+
+    @Test
+    void configOptionsFingerprint() throws IOException {
+        final Path extensionDir = TestUtils.newProjectDir("update-doc-page-config-options-fingerprint");
+        final Path runtimeDir = extensionDir.resolve("runtime");
+        final Path deploymentDir = extensionDir.resolve("deployment");
+        final Path model = runtimeDir.resolve(UpdateDocPageMojo.QUARKUS_CONFIG_DOC_PATH)
+                .resolve("quarkus-config-model.yaml");
+        Files.createDirectories(model.getParent());
+        Files.writeString(model, "foo", StandardCharsets.UTF_8);
+
+        final String fingerprint = fingerprint(runtimeDir, deploymentDir, "foo");
+        Assertions.assertThat(fingerprint(runtimeDir, deploymentDir, "foo")).isEqualTo(fingerprint);
+
+        /* Unrelated files do not matter */
+        Files.createDirectories(runtimeDir.resolve("target/classes"));
+        Files.writeString(runtimeDir.resolve("target/classes/Foo.class"), "foo", StandardCharsets.UTF_8);
+        Assertions.assertThat(fingerprint(runtimeDir, deploymentDir, "foo")).isEqualTo(fingerprint);
+
+        Assertions.assertThat(fingerprint(runtimeDir, deploymentDir, "bar")).isNotEqualTo(fingerprint);
+
+        Files.writeString(model, "bar", StandardCharsets.UTF_8);
+        Assertions.assertThat(fingerprint(runtimeDir, deploymentDir, "foo")).isNotEqualTo(fingerprint);
+    }
+
+    @Test
+    void listConfigOptionsCached() throws IOException {
+        final Path extensionDir = TestUtils.newProjectDir("update-doc-page-list-config-options-cached");
+        final Path runtimeDir = extensionDir.resolve("runtime");
+        final Path deploymentDir = extensionDir.resolve("deployment");
+        final List<ConfigItem> items = List.of(new ConfigItem("quarkus.foo.bar", "", "The bar", "`string`", false, false,
+                "baz", false, false, "1.2.3", "QUARKUS_FOO_BAR"));
+        final Path cachePath = runtimeDir.resolve(UpdateDocPageMojo.CONFIG_OPTIONS_CACHE_PATH);
+        Files.createDirectories(cachePath.getParent());
+        Files.writeString(cachePath,
+                new Gson().toJson(new CachedConfigOptions(fingerprint(runtimeDir, deploymentDir, "foo"), items)),
+                StandardCharsets.UTF_8);
+
+        final List<ConfigItem> actual = UpdateDocPageMojo.listConfigOptionsCached(runtimeDir, deploymentDir, null,
+                Collections.emptyList(), Collections.emptyList(), "foo");
+        Assertions.assertThat(actual).hasSize(1);
+        Assertions.assertThat(actual.get(0)).usingRecursiveComparison().isEqualTo(items.get(0));
+    }
+
+    @Test
+    void loadSection() throws IOException {
+        final Path runtimeDir = TestUtils.newProjectDir("update-doc-page-load-section");
+        final Path usage = runtimeDir.resolve("src/main/doc/usage.adoc");
+        Files.createDirectories(usage.getParent());
+        Files.writeString(usage, "== Foo\n", StandardCharsets.UTF_8);
+
+        final String processed = "[id=\"extensions-foo-usage-foo\"]\n== Foo\n";
+        Assertions.assertThat(UpdateDocPageMojo.loadSection(runtimeDir, "usage.adoc", StandardCharsets.UTF_8, "foo", null))
+                .isEqualTo(processed);
+        final Path cachePath = runtimeDir.resolve(UpdateDocPageMojo.SECTIONS_CACHE_PATH).resolve("usage.adoc.json");
+        Assertions.assertThat(cachePath).isRegularFile();
+
+        /* A matching fingerprint makes the cached content be used without processing */
+        Files.writeString(cachePath, new Gson().toJson(new CachedSection(
+                UpdateDocPageMojo.sectionFingerprint("== Foo\n", "foo", "usage.adoc"), "cached")), StandardCharsets.UTF_8);
+        Assertions.assertThat(UpdateDocPageMojo.loadSection(runtimeDir, "usage.adoc", StandardCharsets.UTF_8, "foo", null))
+                .isEqualTo("cached");
+
+        /* Another artifactId or a change of the source invalidates the cache */
+        Assertions.assertThat(UpdateDocPageMojo.loadSection(runtimeDir, "usage.adoc", StandardCharsets.UTF_8, "bar", null))
+                .isEqualTo("[id=\"extensions-bar-usage-foo\"]\n== Foo\n");
+        Files.writeString(usage, "== Bar\n", StandardCharsets.UTF_8);
+        Assertions.assertThat(UpdateDocPageMojo.loadSection(runtimeDir, "usage.adoc", StandardCharsets.UTF_8, "foo", null))
+                .isEqualTo("[id=\"extensions-foo-usage-bar\"]\n== Bar\n");
+
+        Assertions.assertThat(UpdateDocPageMojo.loadSection(runtimeDir, "limitations.adoc", StandardCharsets.UTF_8, "foo",
+                "default")).isEqualTo("default");
+    }
+
+    @Test
+    void pluginFingerprint() {
+        Assertions.assertThat(UpdateDocPageMojo.pluginFingerprint())
+                .isEqualTo(UpdateDocPageMojo.PLUGIN_FINGERPRINT)
+                .contains(String.valueOf(UpdateDocPageMojo.class.getProtectionDomain().getCodeSource().getLocation()));
+    }
+
+    static String fingerprint(Path runtimeDir, Path deploymentDir, String artifactIdBase) {
+        return UpdateDocPageMojo.configOptionsFingerprint(runtimeDir, deploymentDir, (Pattern) null,
+                Collections.emptyList(), Collections.emptyList(), artifactIdBase);
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2020 CQ Maven Plugin
+ * project contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.l2x6.cq.maven.doc;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.l2x6.cq.test.utils.TestUtils;
+import org.l2x6.pom.tuner.ExpressionEvaluator;
+import org.l2x6.pom.tuner.MavenSourceTree;
+import org.l2x6.pom.tuner.MavenSourceTree.ActiveProfiles;
+import org.l2x6.pom.tuner.model.Module;
+
+public class UpdateDocsMojoTest {
+
+    @Test
+    void findDocumentedExtensions() throws IOException {
+        final Path rootDir = TestUtils.newProjectDir("update-docs-find-documented-extensions");
+        writePom(rootDir, "root", "pom", null,
+                "<modules><module>foo/runtime</module><module>foo/deployment</module>"
+                        + "<module>bar/runtime</module><module>bar/deployment</module>"
+                        + "<module>baz/runtime</module><module>qux/runtime</module><module>qux/deployment</module>"
+                        + "<module>quux/runtime</module><module>quux/deployment</module></modules>");
+        final String docPagePlugin = "<build><plugins><plugin><groupId>org.l2x6.cq</groupId>"
+                + "<artifactId>cq-maven-plugin</artifactId><executions><execution><goals>"
+                + "<goal>update-doc-page</goal></goals></execution></executions></plugin></plugins></build>";
+        final String otherPlugin = "<build><plugins><plugin><groupId>org.l2x6.cq</groupId>"
+                + "<artifactId>cq-maven-plugin</artifactId><executions><execution><goals>"
+                + "<goal>format</goal></goals></execution></executions></plugin></plugins></build>";
+        /* foo has the execution */
+        writePom(rootDir.resolve("foo/runtime"), "foo", "jar", "../../pom.xml", docPagePlugin);
+        writePom(rootDir.resolve("foo/deployment"), "foo-deployment", "jar", "../../pom.xml", "");
+        /* bar has the plugin but not the execution */
+        writePom(rootDir.resolve("bar/runtime"), "bar", "jar", "../../pom.xml", otherPlugin);
+        writePom(rootDir.resolve("bar/deployment"), "bar-deployment", "jar", "../../pom.xml", "");
+        /* baz has no deployment module */
+        writePom(rootDir.resolve("baz/runtime"), "baz", "jar", "../../pom.xml", docPagePlugin);
+        /* qux mentions the goal only in a comment */
+        writePom(rootDir.resolve("qux/runtime"), "qux", "jar", "../../pom.xml",
+                "<!-- <goal>update-doc-page</goal> -->" + otherPlugin);
+        writePom(rootDir.resolve("qux/deployment"), "qux-deployment", "jar", "../../pom.xml", "");
+        /* quux has the execution in a profile */
+        writePom(rootDir.resolve("quux/runtime"), "quux", "jar", "../../pom.xml",
+                "<profiles><profile><id>docs</id>" + docPagePlugin + "</profile></profiles>");
+        writePom(rootDir.resolve("quux/deployment"), "quux-deployment", "jar", "../../pom.xml", "");
+
+        final MavenSourceTree tree = MavenSourceTree.of(rootDir.resolve("pom.xml"), StandardCharsets.UTF_8);
+        final ExpressionEvaluator eval = tree.getExpressionEvaluator(ActiveProfiles.of());
+        final List<Module> modules = UpdateDocsMojo.findDocumentedExtensions(tree, eval, rootDir, StandardCharsets.UTF_8,
+                2);
+        Assertions.assertThat(modules.stream().map(Module::getPomPath).collect(Collectors.toList()))
+                .containsExactly("foo/runtime/pom.xml", "quux/runtime/pom.xml");
+        Assertions.assertThat(UpdateDocsMojo.declaresCqMavenPlugin(tree.getModulesByPath().get("bar/runtime/pom.xml"), eval))
+                .isTrue();
+        Assertions.assertThat(
+                UpdateDocsMojo.declaresCqMavenPlugin(tree.getModulesByPath().get("bar/deployment/pom.xml"), eval))
+                .isFalse();
+    }
+
+    @Test
+    void readStandards() throws IOException {
+        final Path file = TestUtils.newProjectDir("update-docs-read-standards").resolve("standards.adoc");
+        Files.writeString(file, "Intro\n* link:https://a[A] foo\n* no link\n* link:https://b[B]\n", StandardCharsets.UTF_8);
+        Assertions.assertThat(UpdateDocsMojo.readStandards(file, StandardCharsets.UTF_8))
+                .isEqualTo("link:https://a[A], link:https://b[B]");
+        Assertions.assertThat(UpdateDocsMojo.readStandards(file.resolveSibling("does-not-exist.adoc"),
+                StandardCharsets.UTF_8)).isEmpty();
+    }
+
+    static void writePom(Path dir, String artifactId, String packaging, String parentPath, String body)
+            throws IOException {
+        Files.createDirectories(dir);
+        final String parent = parentPath == null ? ""
+                : "<parent><groupId>org.acme</groupId><artifactId>root</artifactId><version>1.0</version>"
+                        + "<relativePath>" + parentPath + "</relativePath></parent>";
+        Files.writeString(dir.resolve("pom.xml"), "<project><modelVersion>4.0.0</modelVersion>" + parent
+                + "<groupId>org.acme</groupId><artifactId>" + artifactId + "</artifactId><version>1.0</version>"
+                + "<packaging>" + packaging + "</packaging>" + body + "</project>\n", StandardCharsets.UTF_8);
+    }
+
+}
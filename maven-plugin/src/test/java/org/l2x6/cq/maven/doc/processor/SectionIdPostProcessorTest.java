@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2020 CQ Maven Plugin
+ * project contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.l2x6.cq.maven.doc.processor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.l2x6.cq.test.utils.TestUtils;
+
+public class SectionIdPostProcessorTest {
+
+    @Test
+    void process() throws IOException {
+        final AsciiDocFile file = file("section-id-process", "usage.adoc", "quarkus-cxf-rt-ws-security",
+                "Intro\n"
+                        + "=== Client & Server: SSL/TLS (2.0)\n"
+                        + "Text == not a heading\n"
+                        + "==== --Nested--\n"
+                        + "=== Ünïcode héading\n");
+        new SectionIdPostProcessor().process(file);
+        Assertions.assertThat(file.getContent()).isEqualTo("Intro\n"
+                + "[id=\"extensions-quarkus-cxf-rt-ws-security-usage-client-server-ssl-tls-2-0\"]\n"
+                + "=== Client & Server: SSL/TLS (2.0)\n"
+                + "Text == not a heading\n"
+                + "[id=\"extensions-quarkus-cxf-rt-ws-security-usage-nested\"]\n"
+                + "==== --Nested--\n"
+                + "[id=\"extensions-quarkus-cxf-rt-ws-security-usage-n-code-h-ading\"]\n"
+                + "=== Ünïcode héading\n");
+    }
+
+    @Test
+    void noHeadings() throws IOException {
+        final AsciiDocFile file = file("section-id-no-headings", "intro.adoc", "foo", "No headings here\n");
+        new SectionIdPostProcessor().process(file);
+        Assertions.assertThat(file.getContent()).isEqualTo("No headings here\n");
+    }
+
+    @Test
+    void repeatedAndContainedHeadings() throws IOException {
+        final String[] contents = {
+                "== Foo\nText\n== Foo\n",
+                "== Foo\n=== Foo\n== Foo bar\n",
+                "=== Foo\n== Foo\nText == Foo\n",
+                "== Foo bar\n== Foo\n==== Foo\n"
+        };
+        for (int i = 0; i < contents.length; i++) {
+            final AsciiDocFile file = file("section-id-repeated-" + i, "usage.adoc", "foo", contents[i]);
+            final String expected = replacePerHeading(file);
+            new SectionIdPostProcessor().process(file);
+            Assertions.assertThat(file.getContent()).isEqualTo(expected);
+        }
+        Assertions.assertThat(replacePerHeading(file("section-id-repeated", "usage.adoc", "foo", contents[0])))
+                .isEqualTo("[id=\"extensions-foo-usage-foo\"]\n[id=\"extensions-foo-usage-foo\"]\n== Foo\nText\n"
+                        + "[id=\"extensions-foo-usage-foo\"]\n[id=\"extensions-foo-usage-foo\"]\n== Foo\n");
+    }
+
+    @Test
+    void generateAsciiDocIdentifier() {
+        Assertions.assertThat(SectionIdPostProcessor.generateAsciiDocIdentifier("Foo", "usage", "  a--b  ."))
+                .isEqualTo("[id=\"extensions-foo-usage-a-b\"]\n");
+    }
+
+    /**
+     * The way {@link SectionIdPostProcessor} used to work: a {@code String.replace()} call per heading
+     */
+    static String replacePerHeading(AsciiDocFile file) {
+        final Matcher matcher = Pattern.compile("^=+ (.*)", Pattern.MULTILINE).matcher(file.getContent());
+        String result = file.getContent();
+        while (matcher.find()) {
+            final String id = SectionIdPostProcessor.generateAsciiDocIdentifier(file.getCqExtension(), "usage",
+                    matcher.group(1).toLowerCase().trim());
+            result = result.replace(matcher.group(0), id + matcher.group(0));
+        }
+        return result;
+    }
+
+    static AsciiDocFile file(String testName, String fileName, String cqExtension, String content) throws IOException {
+        final Path path = TestUtils.newProjectDir(testName).resolve("src/main/doc/" + fileName);
+        Files.createDirectories(path.getParent());
+        Files.writeString(path, content, StandardCharsets.UTF_8);
+        return new AsciiDocFile(path, cqExtension, StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2020 CQ Maven Plugin
+ * project contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.l2x6.cq.maven.prod;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An Aho-Corasick automaton finding all occurrences of a set of patterns in a single pass over a text, no matter how
+ * many patterns there are. Each pattern is associated with some values that are reported when the pattern is found.
+ *
+ * @param <T> the type of the values associated with the patterns
+ */
+class AhoCorasick<T> {
+
+    /** The outgoing transition characters of every state, sorted */
+    private final char[][] transitionChars;
+    /** The target states of the transitions in {@link #transitionChars} */
+    private final int[][] transitionTargets;
+    /** The state to continue from when there is no transition for the current character */
+    private final int[] failures;
+    /** The values of all patterns ending in the given state, including those ending in its failure states */
+    private final List<List<T>> outputs;
+
+    /**
+     * @param valuesByPattern the values to report by the patterns to search for; empty patterns are ignored
+     */
+    AhoCorasick(Map<String, ? extends List<T>> valuesByPattern) {
+        /* Build the trie */
+        final List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        final List<List<T>> values = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        values.add(new ArrayList<>());
+        for (Entry<String, ? extends List<T>> en : valuesByPattern.entrySet()) {
+            final String pattern = en.getKey();
+            if (pattern.isEmpty()) {
+                continue;
+            }
+            int state = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                final int from = state;
+                state = trie.get(from).computeIfAbsent(pattern.charAt(i), c -> {
+                    trie.add(new TreeMap<>());
+                    values.add(new ArrayList<>());
+                    return trie.size() - 1;
+                });
+            }
+            values.get(state).addAll(en.getValue());
+        }
+
+        final int stateCount = trie.size();
+        this.transitionChars = new char[stateCount][];
+        this.transitionTargets = new int[stateCount][];
+        for (int state = 0; state < stateCount; state++) {
+            final TreeMap<Character, Integer> transitions = trie.get(state);
+            final char[] chars = new char[transitions.size()];
+            final int[] targets = new int[transitions.size()];
+            int i = 0;
+            for (Entry<Character, Integer> t : transitions.entrySet()) {
+                chars[i] = t.getKey();
+                targets[i] = t.getValue();
+                i++;
+            }
+            transitionChars[state] = chars;
+            transitionTargets[state] = targets;
+        }
+
+        /* Compute the failure links breadth first, so that the failure state is always finished before its users */
+        this.failures = new int[stateCount];
+        this.outputs = values;
+        final Deque<Integer> queue = new ArrayDeque<>();
+        for (int target : transitionTargets[0]) {
+            queue.add(target);
+        }
+        while (!queue.isEmpty()) {
+            final int state = queue.poll();
+            final char[] chars = transitionChars[state];
+            final int[] targets = transitionTargets[state];
+            for (int i = 0; i < chars.length; i++) {
+                final int target = targets[i];
+                int failure = failures[state];
+                int next;
+                while ((next = transition(failure, chars[i])) < 0 && failure != 0) {
+                    failure = failures[failure];
+                }
+                failures[target] = next < 0 ? 0 : next;
+                final List<T> inherited = outputs.get(failures[target]);
+                if (!inherited.isEmpty()) {
+                    outputs.get(target).addAll(inherited);
+                }
+                queue.add(target);
+            }
+        }
+    }
+
+    /**
+     * @param  text the text to search
+     * @return      the values associated with all patterns occurring in the given {@code text}, in the order in which
+     *              they were found first
+     */
+    Set<T> findAll(CharSequence text) {
+        final Set<T> result = new LinkedHashSet<>();
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            int next;
+            while ((next = transition(state, c)) < 0 && state != 0) {
+                state = failures[state];
+            }
+            state = next < 0 ? 0 : next;
+            final List<T> found = outputs.get(state);
+            if (!found.isEmpty()) {
+                result.addAll(found);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the state reachable from {@code state} via {@code c} or {@code -1} if there is no such transition
+     */
+    int transition(int state, char c) {
+        final int i = Arrays.binarySearch(transitionChars[state], c);
+        return i < 0 ? -1 : transitionTargets[state][i];
+    }
+
+}
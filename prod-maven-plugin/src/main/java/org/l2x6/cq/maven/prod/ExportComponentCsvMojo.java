@@ -21,15 +21,13 @@ import java.io.IOException;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
-import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import org.apache.camel.tooling.model.ArtifactModel;
-import org.apache.camel.tooling.model.BaseModel;
+import java.util.stream.Collectors;
 import org.apache.camel.tooling.model.Kind;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
@@ -41,9 +39,11 @@ import org.apache.maven.project.MavenProject;
 import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.repository.RemoteRepository;
+import org.l2x6.cq.common.CatalogIndex;
 import org.l2x6.cq.common.CqCatalog;
 import org.l2x6.cq.common.CqCatalog.Flavor;
 import org.l2x6.cq.common.CqCatalog.GavCqCatalog;
+import org.l2x6.cq.common.ParallelTasks;
 
 /**
  * Exports the list of components, languages, data formats and others to a CSV file.
@@ -69,6 +69,15 @@ public class ExportComponentCsvMojo extends AbstractMojo {
     @Parameter(defaultValue = ".")
     protected File outputDir;
 
+    /**
+     * The number of threads to use for processing the individual kinds of catalog models. Values less than 1 mean the
+     * number of available processors.
+     *
+     * @since 4.26.1
+     */
+    @Parameter(property = "cq.parallelism", defaultValue = "0")
+    int parallelism;
+
     @Parameter(defaultValue = "${settings.localRepository}", readonly = true)
     String localRepository;
 
@@ -93,17 +102,19 @@ public class ExportComponentCsvMojo extends AbstractMojo {
         final Path localRepositoryPath = Paths.get(localRepository);
         final Path outputPath = outputDir.toPath();
         try (GavCqCatalog camelCatalog = GavCqCatalog.open(localRepositoryPath, Flavor.camel, camelCatalogVersion, repositories,
-                repoSystem, repoSession);
+                repoSystem, repoSession, parallelism, getLog());
                 GavCqCatalog camelQuarkusCatalog = GavCqCatalog.open(localRepositoryPath, Flavor.camelQuarkus,
-                        camelQuarkusCatalogVersion, repositories, repoSystem, repoSession)) {
-            CqCatalog.kinds().forEach(kind -> {
+                        camelQuarkusCatalogVersion, repositories, repoSystem, repoSession, parallelism, getLog())) {
+            /* Each kind has its own output file, so the kinds can be processed independently */
+            ParallelTasks.forEach(CqCatalog.kinds().collect(Collectors.toList()), parallelism, (kind, log) -> {
                 final Path outputFile = outputPath.resolve(kind.name() + "s.csv");
                 try (Writer out = Files.newBufferedWriter(outputFile, StandardCharsets.UTF_8)) {
                     out.write(
                             "Priority\tGA product target\tTP2 done\tName\tScheme\tartifactId\tKind\tDeprecated\tCQ community\tProduct\tCommunity issue\tIntegration test\tSprint\tComment\n");
-                    camelCatalog.models(kind)
-                            .filter(CqCatalog::isFirstScheme)
-                            .sorted(CqCatalog.compareArtifactId().thenComparing(BaseModel.compareTitle()))
+                    camelCatalog.entries(kind)
+                            .filter(CatalogIndex.Entry::isFirstScheme)
+                            .sorted(CatalogIndex.Entry.compareArtifactId()
+                                    .thenComparing(CatalogIndex.Entry.compareTitle()))
                             .forEach(model -> {
                                 // prio
                                 try {
@@ -129,20 +140,15 @@ public class ExportComponentCsvMojo extends AbstractMojo {
                 } catch (IOException e) {
                     throw new RuntimeException("Could not write to " + outputFile, e);
                 }
-            });
+                log.accept("Written " + outputFile);
+            }, getLog()::info);
         }
     }
 
-    private String quarkusCommunitySupport(GavCqCatalog camelQuarkusCatalog, Kind kind, ArtifactModel<?> model) {
-        try {
-            BaseModel<?> cqModel = camelQuarkusCatalog.load(kind, model.getName());
-            return cqModel.isNativeSupported() ? "Native" : "JVM";
-        } catch (RuntimeException e) {
-            if (e.getCause() instanceof NoSuchFileException) {
-                return "n/a";
-            }
-            throw e;
-        }
+    private String quarkusCommunitySupport(GavCqCatalog camelQuarkusCatalog, Kind kind, CatalogIndex.Entry model) {
+        return camelQuarkusCatalog.entry(kind, model.getName())
+                .map(cqModel -> cqModel.isNativeSupported() ? "Native" : "JVM")
+                .orElse("n/a");
     }
 
     static String primaryGroup(Kind kind, String rawLabels, String name) {
@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2020 CQ Maven Plugin
+ * project contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.l2x6.cq.maven.prod;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.l2x6.pom.tuner.ExpressionEvaluator;
+import org.l2x6.pom.tuner.MavenSourceTree;
+import org.l2x6.pom.tuner.model.Ga;
+import org.l2x6.pom.tuner.model.Module;
+import org.l2x6.pom.tuner.model.Profile;
+
+/**
+ * A directed graph over the modules of a {@link MavenSourceTree} with precomputed transitive closures.
+ * <p>
+ * The closures are computed once, bottom-up over the strongly connected components of the graph, so that
+ * the subsequent lookups are just unions of {@link BitSet}s. Edges pointing to artifacts not available in the
+ * source tree are ignored.
+ */
+class ModuleGraph {
+
+    private final Ga[] nodes;
+    private final Map<Ga, Integer> indexes;
+    private final int[][] successors;
+    /** The component index of every node */
+    private final int[] components;
+    /** The nodes reachable from the given component, including the members of the component itself */
+    private final BitSet[] componentClosures;
+
+    /**
+     * @param  tree     the source tree
+     * @param  profiles the active profiles
+     * @return          a {@link ModuleGraph} having an edge from each module to every dependency declared in the module
+     *                  itself or in any of its parents; the same graph as walked by
+     *                  {@link MavenSourceTree#collectTransitiveDependencies(Ga, Predicate)}
+     */
+    static ModuleGraph dependencies(MavenSourceTree tree, Predicate<Profile> profiles) {
+        final ExpressionEvaluator evaluator = tree.getExpressionEvaluator(profiles);
+        return new ModuleGraph(
+                tree.getModulesByGa().keySet(),
+                ga -> tree.collectOwnDependencies(ga, profiles).stream()
+                        .map(evaluator::evaluateGa)
+                        .toList());
+    }
+
+    /**
+     * @param  tree     the source tree
+     * @param  profiles the active profiles
+     * @return          a {@link ModuleGraph} having an edge from each module to its parents, dependencies, plugins
+     *                  and imported BOMs; the same graph as walked by
+     *                  {@link MavenSourceTree#findRequiredModules(Collection, Predicate)}, so that
+     *                  {@link #closure(Collection)} returns the same set of modules as
+     *                  {@link MavenSourceTree#findRequiredModules(Collection, Predicate)}
+     */
+    static ModuleGraph requiredModules(MavenSourceTree tree, Predicate<Profile> profiles) {
+        final ExpressionEvaluator evaluator = tree.getExpressionEvaluator(profiles);
+        final Map<Ga, Module> modulesByGa = tree.getModulesByGa();
+        return new ModuleGraph(
+                modulesByGa.keySet(),
+                ga -> {
+                    final Module module = modulesByGa.get(ga);
+                    final List<Ga> result = new ArrayList<>();
+                    if (module.getParentGav() != null) {
+                        final Ga parentGa = evaluator.evaluateGa(module.getParentGav());
+                        result.add(parentGa);
+                        final Module parent = modulesByGa.get(parentGa);
+                        if (parent == null || !parent.hasChild(module.getPomPath(), profiles)) {
+                            /* The module is not listed by its declared parent; find the aggregator listing it */
+                            modulesByGa.values().stream()
+                                    .filter(m -> m.hasChild(module.getPomPath(), profiles))
+                                    .findFirst()
+                                    .map(m -> evaluator.evaluateGa(m.getGav()))
+                                    .ifPresent(result::add);
+                        }
+                    }
+                    for (Profile profile : module.getProfiles()) {
+                        if (profiles.test(profile)) {
+                            profile.getDependencies().stream().map(evaluator::evaluateGa).forEach(result::add);
+                            profile.getPlugins().stream().map(evaluator::evaluateGa).forEach(result::add);
+                            profile.getDependencyManagement().stream()
+                                    .filter(dep -> "import".equals(dep.getScope()))
+                                    .map(evaluator::evaluateGa)
+                                    .forEach(result::add);
+                        }
+                    }
+                    return result;
+                });
+    }
+
+    ModuleGraph(Collection<Ga> nodes, Function<Ga, Collection<Ga>> successors) {
+        this.nodes = new TreeSet<>(nodes).toArray(new Ga[0]);
+        this.indexes = new HashMap<>(this.nodes.length * 2);
+        for (int i = 0; i < this.nodes.length; i++) {
+            indexes.put(this.nodes[i], i);
+        }
+        this.successors = new int[this.nodes.length][];
+        for (int i = 0; i < this.nodes.length; i++) {
+            this.successors[i] = successors.apply(this.nodes[i]).stream()
+                    .map(indexes::get)
+                    .filter(j -> j != null)
+                    .mapToInt(Integer::intValue)
+                    .distinct()
+                    .toArray();
+        }
+        this.components = new int[this.nodes.length];
+        this.componentClosures = new Tarjan().run();
+    }
+
+    /**
+     * @param  ga the node to start from
+     * @return    the nodes reachable from the given {@code ga} through at least one edge; {@code ga} itself is
+     *            contained only if it is a part of a cycle
+     */
+    Set<Ga> reachable(Ga ga) {
+        final BitSet result = new BitSet(nodes.length);
+        final Integer i = indexes.get(ga);
+        if (i != null) {
+            for (int successor : successors[i]) {
+                result.or(componentClosures[components[successor]]);
+            }
+        }
+        return toGas(result);
+    }
+
+    /**
+     * @param  gas the nodes to start from
+     * @return     the given {@code gas} that are available in this graph plus all nodes reachable from them
+     */
+    Set<Ga> closure(Collection<Ga> gas) {
+        return toGas(closureBits(gas));
+    }
+
+    BitSet closureBits(Collection<Ga> gas) {
+        return addToClosure(new BitSet(nodes.length), gas);
+    }
+
+    /**
+     * @param  closure a result of an earlier {@link #closureBits(Collection)} call
+     * @param  gas     the nodes to add
+     * @return         a new {@link BitSet} containing the given {@code closure} plus the closure of the given
+     *                 {@code gas}; the nodes already contained in {@code closure} are not traversed again
+     */
+    BitSet addToClosure(BitSet closure, Collection<Ga> gas) {
+        final BitSet result = (BitSet) closure.clone();
+        for (Ga ga : gas) {
+            final Integer i = indexes.get(ga);
+            if (i != null && !result.get(i)) {
+                result.or(componentClosures[components[i]]);
+            }
+        }
+        return result;
+    }
+
+    BitSet toBits(Collection<Ga> gas) {
+        final BitSet result = new BitSet(nodes.length);
+        for (Ga ga : gas) {
+            final Integer i = indexes.get(ga);
+            if (i != null) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+
+    Set<Ga> toGas(BitSet bits) {
+        final Set<Ga> result = new TreeSet<>();
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            result.add(nodes[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Tarjan's strongly connected components algorithm. The components are found in reverse topological order, so
+     * the closures of all successor components are complete when a component is finished.
+     */
+    class Tarjan {
+        private final int[] index = new int[nodes.length];
+        private final int[] lowLink = new int[nodes.length];
+        private final boolean[] onStack = new boolean[nodes.length];
+        private final Deque<Integer> stack = new ArrayDeque<>();
+        private final BitSet[] closures = new BitSet[nodes.length];
+        private int nextIndex = 1;
+        private int componentCount = 0;
+
+        BitSet[] run() {
+            for (int i = 0; i < nodes.length; i++) {
+                if (index[i] == 0) {
+                    visit(i);
+                }
+            }
+            return Arrays.copyOf(closures, componentCount);
+        }
+
+        void visit(int v) {
+            index[v] = nextIndex;
+            lowLink[v] = nextIndex;
+            nextIndex++;
+            stack.push(v);
+            onStack[v] = true;
+            for (int w : successors[v]) {
+                if (index[w] == 0) {
+                    visit(w);
+                    lowLink[v] = Math.min(lowLink[v], lowLink[w]);
+                } else if (onStack[w]) {
+                    lowLink[v] = Math.min(lowLink[v], index[w]);
+                }
+            }
+            if (lowLink[v] == index[v]) {
+                final int component = componentCount++;
+                final BitSet closure = new BitSet(nodes.length);
+                final List<Integer> members = new ArrayList<>();
+                int w;
+                do {
+                    w = stack.pop();
+                    onStack[w] = false;
+                    components[w] = component;
+                    closure.set(w);
+                    members.add(w);
+                } while (w != v);
+                /* All successors outside of this component were finished before */
+                for (int member : members) {
+                    for (int successor : successors[member]) {
+                        final int successorComponent = components[successor];
+                        if (successorComponent != component) {
+                            closure.or(closures[successorComponent]);
+                        }
+                    }
+                }
+                closures[component] = closure;
+            }
+        }
+    }
+
+}
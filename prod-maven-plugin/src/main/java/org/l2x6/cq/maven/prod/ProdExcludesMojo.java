@@ -31,10 +31,12 @@ import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -344,6 +346,17 @@ public class ProdExcludesMojo extends AbstractMojo {
     @Parameter(property = "cq.jakartaReport")
     File jakartaReport;
 
+    /**
+     * If {@code true}, the include/exclude sets and the test groups are computed on a copy of the source tree and
+     * a summary of the files that would change is logged. The heavy phases (installing the poms, flattening and
+     * installing {@code camel-quarkus-bom} and collecting the transitive dependencies) are skipped and the real source
+     * tree is not touched. Useful for validating edits of {@code camel-quarkus-product-source.json} quickly.
+     *
+     * @since 4.26.1
+     */
+    @Parameter(property = "cq.plan", defaultValue = "false")
+    boolean plan;
+
     /**
      * Overridden by {@link ProdExcludesCheckMojo}.
      *
@@ -382,10 +395,10 @@ public class ProdExcludesMojo extends AbstractMojo {
                 || path.endsWith(productizedDependenciesPath);
 
         /*
-         * Let's edit the copies of pom.xml files outside of the real source tree, if we are just checking or pom
-         * editing is not desired
+         * Let's edit the copies of pom.xml files outside of the real source tree, if we are just checking or planning
+         * or pom editing is not desired
          */
-        final Path workRoot = isChecking()
+        final Path workRoot = isChecking() || plan
                 ? CqCommonUtils.copyPoms(
                         basedir.toPath(),
                         basedir.toPath().resolve("target/prod-excludes-work"),
@@ -413,10 +426,15 @@ public class ProdExcludesMojo extends AbstractMojo {
         final MavenSourceTree fullTree = initialTree.relinkModules(charset, MODULE_COMMENT,
                 ActiveProfiles.of("standard-build"));
 
-        /* Add the modules required by the includes */
+        /*
+         * Add the modules required by the includes; the closures are computed once for the whole tree so that adding
+         * the tests below is just a union
+         */
+        final ModuleGraph requiredModules = ModuleGraph.requiredModules(fullTree, profiles);
+        final BitSet expandedIncludesWithoutTestsBits = requiredModules
+                .closureBits(Product.getInitialProductizedModules(product, productCxf));
         final Set<Ga> expandedIncludesWithoutTests = Collections
-                .unmodifiableSet(
-                        fullTree.findRequiredModules(Product.getInitialProductizedModules(product, productCxf), profiles));
+                .unmodifiableSet(requiredModules.toGas(expandedIncludesWithoutTestsBits));
 
         updateVersions(fullTree, profiles, product.getVersionTransformations());
 
@@ -426,13 +444,13 @@ public class ProdExcludesMojo extends AbstractMojo {
                 product.getAllowedMixedTests(), product.getExcludeTests(), product.getIntegrationTests());
 
         /* Add the found product tests to the includes */
-        final Set<Ga> tempExpandedIncludesWithTests = new TreeSet<>(expandedIncludesWithoutTests);
-        tests.entrySet().stream()
+        final List<Ga> prodTests = tests.entrySet().stream()
                 .filter(en -> !en.getValue().mixed)
                 .map(Entry::getKey)
-                .forEach(tempExpandedIncludesWithTests::add);
+                .collect(Collectors.toList());
         /* The tests may require some additional modules */
-        final Set<Ga> expandedIncludesWithProdTests = fullTree.findRequiredModules(tempExpandedIncludesWithTests, profiles);
+        final Set<Ga> expandedIncludesWithProdTests = requiredModules
+                .toGas(requiredModules.addToClosure(expandedIncludesWithoutTestsBits, prodTests));
 
         final Set<Ga> requiredCamelArtifacts = findRequiredCamelArtifacts(fullTree, expandedIncludesWithProdTests,
                 fullTree.getExpressionEvaluator(profiles));
@@ -477,17 +495,21 @@ public class ProdExcludesMojo extends AbstractMojo {
         excludeTestsFromTestList(workRoot, fullTree, workRoot.resolve("tooling/test-list/pom.xml"),
                 workRoot.resolve("integration-tests"), product.getExcludeTests());
 
-        /* Invoke transitive-deps mojo */
-        invokeTransitiveDependenciesMojo(
-                basedir.toPath(),
-                workRoot,
-                product,
-                productCxf,
-                productizedDependenciesPath,
-                nonProductizedDependenciesPath,
-                allDependenciesPath);
+        if (plan) {
+            logPlan(workRoot, fullTree, expandedIncludesWithAllTests, tests, product, productCxf);
+        } else {
+            /* Invoke transitive-deps mojo */
+            invokeTransitiveDependenciesMojo(
+                    basedir.toPath(),
+                    workRoot,
+                    product,
+                    productCxf,
+                    productizedDependenciesPath,
+                    nonProductizedDependenciesPath,
+                    allDependenciesPath);
+        }
 
-        if (isChecking()) {
+        if (isChecking() && !plan) {
             final MavenSourceTree finalTree = MavenSourceTree.of(rootPomPath, charset, Dependency::isVirtual);
             CqCommonUtils.assertPomsMatch(
                     workRoot,
@@ -539,6 +561,46 @@ public class ProdExcludesMojo extends AbstractMojo {
 
     }
 
+    void logPlan(Path workRoot, MavenSourceTree fullTree, Set<Ga> expandedIncludes, Map<Ga, TestCategory> tests,
+            Product product, Product productCxf) {
+        final Path basePath = basedir.toPath();
+        getLog().info("Plan for " + PomTunerUtils.toUnixPath(basePath.relativize(productJson.toPath()).toString()) + ":");
+        getLog().info(" - required modules: " + expandedIncludes.size() + " of " + fullTree.getModulesByGa().size());
+        final Map<TestCategory, Long> testCounts = tests.values().stream()
+                .collect(Collectors.groupingBy(c -> c, () -> new EnumMap<>(TestCategory.class), Collectors.counting()));
+        getLog().info(" - tests: " + Stream.of(TestCategory.values())
+                .map(c -> c.getHumanName() + ": " + testCounts.getOrDefault(c, 0L))
+                .collect(Collectors.joining(", ")));
+
+        final List<String> changes = new ArrayList<>();
+        CqCommonUtils.visitPoms(
+                workRoot,
+                file -> {
+                    final Path relPath = workRoot.relativize(file);
+                    final Path realPath = basePath.resolve(relPath);
+                    if (!Files.exists(realPath)) {
+                        changes.add("A " + PomTunerUtils.toUnixPath(relPath.toString()));
+                    } else if (!CqCommonUtils.compareFiles(file, realPath, charset).isEmpty()) {
+                        changes.add("M " + PomTunerUtils.toUnixPath(relPath.toString()));
+                    }
+                },
+                additionalFiles);
+        getLog().info(" - files that would change: " + changes.size());
+        changes.forEach(change -> getLog().info("   " + change));
+
+        final Ga bomGa = new Ga("org.apache.camel.quarkus", "camel-quarkus-bom");
+        final long installedPoms = MavenSourceTree.of(workRoot.resolve("pom.xml"), charset, Dependency::isVirtual)
+                .getModulesByGa().keySet().stream()
+                .filter(ga -> !ga.equals(bomGa))
+                .count();
+        getLog().info(" - skipped phases: installing " + installedPoms
+                + " pom.xml files, flattening and installing camel-quarkus-bom and collecting the transitive"
+                + " dependencies of " + Product.getInitialProductizedModules(product, productCxf).size()
+                + " productized modules; the files under " + PomTunerUtils.toUnixPath(
+                        basePath.relativize(product.getProductizedDependenciesFile().getParent()).toString())
+                + " are not updated in this mode");
+    }
+
     public Product readProduct(File productJson, final String version, final Path docReferenceDir) {
         final Path absProdJson = basedir.toPath().resolve(productJson.toPath());
         final Product product = Product.read(absProdJson, charset, version, docReferenceDir,
@@ -752,15 +814,19 @@ public class ProdExcludesMojo extends AbstractMojo {
                 .count();
         int availableNodes = product.getAvailableCiNodes() - 1;
         int maxTestsPerGroup = (nativeTestsCount / availableNodes) + 1;
+        final TestDurations testDurations = TestDurations.read(product.getTestDurations(), charset);
         final Map<TestCategory, TestCategoryTests> testGroups = new EnumMap<>(TestCategory.class);
         Stream.of(TestCategory.values())
-                .forEach(k -> testGroups.put(k, new TestCategoryTests(fullTree, maxTestsPerGroup, k)));
+                .forEach(k -> testGroups.put(k, new TestCategoryTests(fullTree, maxTestsPerGroup, k, testDurations)));
         tests.entrySet().stream()
                 .forEach(en -> testGroups.get(en.getValue()).addTest(en.getKey()));
 
         final List<TestGroup> groups = testGroups.values().stream()
                 .flatMap(cat -> cat.groupTests().stream())
                 .collect(Collectors.toList());
+        if (plan) {
+            groups.forEach(g -> getLog().info(" - " + g.getHumanName() + ": " + g.tests.size() + " tests"));
+        }
         testGroups.values().stream()
                 .forEach(TestCategoryTests::write);
 
@@ -1012,6 +1078,26 @@ public class ProdExcludesMojo extends AbstractMojo {
         final Map<Ga, TestCategory> tests = new TreeMap<>();
         testModules.keySet().stream().forEach(ga -> tests.put(ga, findInitialTestCategory(tree, ga)));
 
+        /*
+         * Index the tests by the extensions they depend on and find out what each test misses in productizedGas
+         * just once rather than for every extension
+         */
+        final Map<Ga, List<Ga>> testsByExtension = new HashMap<>();
+        final Map<Ga, Set<Ga>> missingDepsByTest = new HashMap<>();
+        for (Entry<Ga, Set<Ga>> testModule : testModules.entrySet()) {
+            final Ga testGa = testModule.getKey();
+            final Set<Ga> missingDeps = testModule.getValue().stream()
+                    .filter(ga -> !productizedGas.contains(ga))
+                    .collect(Collectors.toCollection(TreeSet::new));
+            missingDepsByTest.put(testGa, Collections.unmodifiableSet(missingDeps));
+            for (Ga dep : testModule.getValue()) {
+                if (expandedExtensions.contains(dep)) {
+                    /* testModules is sorted, so are the lists of tests */
+                    testsByExtension.computeIfAbsent(dep, k -> new ArrayList<>()).add(testGa);
+                }
+            }
+        }
+
         getLog().info("Test coverage:");
         for (Ga extensionGa : expandedExtensions) {
             final String extensionArtifactId = extensionGa.getArtifactId();
@@ -1020,40 +1106,35 @@ public class ProdExcludesMojo extends AbstractMojo {
                 final Set<Ga> extAllowedMixedTests = allowedMixedTests.getOrDefault(extensionGa, Collections.emptySet());
                 boolean covered = false;
                 final Map<Ga, Set<Ga>> testsWithMissingDependencies = new TreeMap<>();
-                for (Entry<Ga, Set<Ga>> testModule : testModules.entrySet()) {
-                    if (testModule.getValue().contains(extensionGa)) {
-                        final Ga testGa = testModule.getKey();
-                        if (productizedGas.containsAll(testModule.getValue())) {
-                            /* This test covers the given extensionGa and all its deps are included */
-                            tests.compute(testGa, (k, oldVal) -> TestCategory.PURE_PRODUCT.upgradeFrom(oldVal));
-                            covered = true;
-                            getLog().info(
-                                    " - " + extensionArtifactId + " is covered by "
-                                            + testGa.getArtifactId());
-                        } else if (extAllowedMixedTests.contains(testGa)) {
-                            /* This test is allowed to be mixed for this specific extension */
-                            tests.compute(testGa, (k, oldVal) -> TestCategory.MIXED_ALLOWED.upgradeFrom(oldVal));
-                            covered = true;
-                            getLog().info(
-                                    " - " + extensionArtifactId + " is covered by an explicitly allowed mixed test "
-                                            + testGa.getArtifactId());
-                        } else if (!covered) {
-                            /* Store what is missing to be able to report later */
-                            final TreeSet<Ga> missingDeps = testModule.getValue().stream()
-                                    .filter(ga -> !productizedGas.contains(ga))
-                                    .collect(Collectors.toCollection(TreeSet::new));
-                            if (testGa.getArtifactId().startsWith(
-                                    extensionArtifactId.replace("camel-quarkus-", "camel-quarkus-integration-test-"))) {
-                                getLog().warn(
-                                        " - " + extensionArtifactId + " cannot be covered by " + testGa.getArtifactId()
-                                                + " because of missing dependencies:\n    - "
-                                                + missingDeps.stream().map(Ga::getArtifactId)
-                                                        .collect(Collectors.joining("\n    - ")));
-                            }
-                            testsWithMissingDependencies.put(
-                                    testGa,
-                                    missingDeps);
+                for (Ga testGa : testsByExtension.getOrDefault(extensionGa, Collections.emptyList())) {
+                    final Set<Ga> missingDeps = missingDepsByTest.get(testGa);
+                    if (missingDeps.isEmpty()) {
+                        /* This test covers the given extensionGa and all its deps are included */
+                        tests.compute(testGa, (k, oldVal) -> TestCategory.PURE_PRODUCT.upgradeFrom(oldVal));
+                        covered = true;
+                        getLog().info(
+                                " - " + extensionArtifactId + " is covered by "
+                                        + testGa.getArtifactId());
+                    } else if (extAllowedMixedTests.contains(testGa)) {
+                        /* This test is allowed to be mixed for this specific extension */
+                        tests.compute(testGa, (k, oldVal) -> TestCategory.MIXED_ALLOWED.upgradeFrom(oldVal));
+                        covered = true;
+                        getLog().info(
+                                " - " + extensionArtifactId + " is covered by an explicitly allowed mixed test "
+                                        + testGa.getArtifactId());
+                    } else if (!covered) {
+                        /* Store what is missing to be able to report later */
+                        if (testGa.getArtifactId().startsWith(
+                                extensionArtifactId.replace("camel-quarkus-", "camel-quarkus-integration-test-"))) {
+                            getLog().warn(
+                                    " - " + extensionArtifactId + " cannot be covered by " + testGa.getArtifactId()
+                                            + " because of missing dependencies:\n    - "
+                                            + missingDeps.stream().map(Ga::getArtifactId)
+                                                    .collect(Collectors.joining("\n    - ")));
                         }
+                        testsWithMissingDependencies.put(
+                                testGa,
+                                missingDeps);
                     }
                 }
                 if (!covered) {
@@ -1078,6 +1159,7 @@ public class ProdExcludesMojo extends AbstractMojo {
     static Map<Ga, Set<Ga>> collectIntegrationTests(final MavenSourceTree tree, Predicate<Profile> profiles,
             Set<Ga> excludeTests, Log log, Path basedir, List<DirectoryScanner> integrationTests) {
         final ExpressionEvaluator evaluator = tree.getExpressionEvaluator(profiles);
+        final ModuleGraph dependencyGraph = ModuleGraph.dependencies(tree, profiles);
         final Map<Ga, Set<Ga>> testModules = new TreeMap<>();
         for (DirectoryScanner scanner : integrationTests) {
             scanner.scan();
@@ -1091,17 +1173,13 @@ public class ProdExcludesMojo extends AbstractMojo {
                     continue;
                 }
                 final Ga moduleGa = evaluator.evaluateGa(testModule.getGav());
-                if (!excludeTests.contains(moduleGa)) {
-                    final Set<Ga> deps = tree.collectTransitiveDependencies(moduleGa, profiles).stream()
-                            .map(evaluator::evaluateGa)
+                if (!excludeTests.contains(moduleGa) && !testModules.containsKey(moduleGa)) {
+                    final Set<Ga> deps = dependencyGraph.reachable(moduleGa).stream()
                             /* keep only local extension dependencies */
                             .filter(dep -> tree.getModulesByGa().keySet()
                                     .contains(new Ga(dep.getGroupId(), dep.getArtifactId() + "-deployment")))
                             .collect(Collectors.toSet());
-                    testModules.merge(moduleGa, deps, (oldSet, newSet) -> {
-                        oldSet.addAll(newSet);
-                        return oldSet;
-                    });
+                    testModules.put(moduleGa, deps);
                 }
             }
         }
@@ -1367,6 +1445,10 @@ public class ProdExcludesMojo extends AbstractMojo {
             tests.add(testRelPath);
         }
 
+        public List<String> getTests() {
+            return tests;
+        }
+
         public String getHumanName() {
             return category.getHumanName() + " :: Group " + getHumanIndex();
         }
@@ -1383,14 +1465,17 @@ public class ProdExcludesMojo extends AbstractMojo {
         private final List<Ga> tests;
         private final int maxTestsPerGroup;
         private final TestCategory category;
+        private final TestDurations testDurations;
         private List<TestGroup> groups;
 
-        public TestCategoryTests(MavenSourceTree tree, int maxTestsPerGroup, TestCategory category) {
+        public TestCategoryTests(MavenSourceTree tree, int maxTestsPerGroup, TestCategory category,
+                TestDurations testDurations) {
             this.tree = tree;
             /* No need to split JVM tests into groups */
             this.maxTestsPerGroup = category.isNative() ? maxTestsPerGroup : Integer.MAX_VALUE;
             this.tests = new ArrayList<>();
             this.category = category;
+            this.testDurations = testDurations;
         }
 
         public void addTest(Ga ga) {
@@ -1403,27 +1488,82 @@ public class ProdExcludesMojo extends AbstractMojo {
             }
 
             final Path anyGroupDir = tree.getRootDirectory().resolve("product/integration-tests-product/group-01");
-            Set<String> testPaths = tests.stream()
-                    .map(test -> {
-                        final Path testAbsPath = tree.getRootDirectory().resolve(tree.getModulesByGa().get(test).getPomPath())
-                                .getParent();
-                        return PomTunerUtils.toUnixPath(anyGroupDir.relativize(testAbsPath).toString());
-                    })
-                    .collect(Collectors.toCollection(() -> new TreeSet<String>()));
+            final Map<String, Ga> testsByPath = new TreeMap<>();
+            for (Ga test : tests) {
+                final Path testAbsPath = tree.getRootDirectory().resolve(tree.getModulesByGa().get(test).getPomPath())
+                        .getParent();
+                testsByPath.put(PomTunerUtils.toUnixPath(anyGroupDir.relativize(testAbsPath).toString()), test);
+            }
 
             int groupCount = Math.max(1, tests.size() / maxTestsPerGroup);
             final List<TestGroup> groups = new ArrayList<>(groupCount);
+            for (int i = 0; i < groupCount; i++) {
+                groups.add(new TestGroup(i, category));
+            }
+            final Map<String, Double> durations = groupCount > 1 ? findDurations(testsByPath) : null;
+            if (durations != null) {
+                distributeByDuration(durations, groups);
+            } else {
+                distributeByCount(testsByPath.keySet(), groups);
+            }
+            this.groups = groups;
+            return groups;
+        }
 
-            final int minGroupSize = tests.size() / groupCount;
-            final int rest = tests.size() % groupCount;
+        /**
+         * @param  testsByPath the tests to look up
+         * @return             a {@link Map} from test paths to durations in seconds or {@code null} if no durations
+         *                     are known for any of the tests in this category; the tests with unknown duration get
+         *                     the average duration of the known ones
+         */
+        Map<String, Double> findDurations(Map<String, Ga> testsByPath) {
+            if (testDurations.isEmpty()) {
+                return null;
+            }
+            final Map<String, Double> result = new TreeMap<>();
+            double knownSum = 0.0d;
+            int knownCount = 0;
+            for (Entry<String, Ga> en : testsByPath.entrySet()) {
+                final Ga test = en.getValue();
+                final String moduleDir = PomTunerUtils
+                        .toUnixPath(Paths.get(tree.getModulesByGa().get(test).getPomPath()).getParent().toString());
+                final Double duration = testDurations.get(test, moduleDir);
+                if (duration != null) {
+                    knownSum += duration.doubleValue();
+                    knownCount++;
+                }
+                result.put(en.getKey(), duration);
+            }
+            if (knownCount == 0) {
+                getLog().warn("No test durations known for any of the " + category.getHumanName()
+                        + " tests; grouping them by count");
+                return null;
+            }
+            final Double average = knownSum / knownCount;
+            result.replaceAll((path, duration) -> {
+                if (duration == null) {
+                    getLog().debug("Unknown duration of test " + path + "; assuming average " + average + " s");
+                    return average;
+                }
+                return duration;
+            });
+            return result;
+        }
+
+        /**
+         * Split the tests into groups alphabetically so that all groups contain the same number of tests +/- 1.
+         */
+        void distributeByCount(Set<String> testPaths, List<TestGroup> groups) {
+            final int groupCount = groups.size();
+            final int minGroupSize = testPaths.size() / groupCount;
+            final int rest = testPaths.size() % groupCount;
             final Iterator<String> testIt = testPaths.iterator();
             for (int i = 0; i < groupCount; i++) {
-                final TestGroup group = new TestGroup(i, category);
+                final TestGroup group = groups.get(i);
                 int groupSize = minGroupSize + (i < rest ? 1 : 0);
                 while (groupSize-- > 0) {
                     group.add(testIt.next());
                 }
-                groups.add(group);
             }
             if (testIt.hasNext()) {
                 StringBuilder msg = new StringBuilder("Still remaining tests there in " + category + ": ");
@@ -1432,8 +1572,38 @@ public class ProdExcludesMojo extends AbstractMojo {
                 }
                 throw new IllegalStateException(msg.toString());
             }
-            this.groups = groups;
-            return groups;
+        }
+
+        /**
+         * Longest processing time first: take the tests from the longest to the shortest one and add each to the
+         * group having the smallest sum of durations so far. The tests are sorted alphabetically within each group.
+         */
+        void distributeByDuration(Map<String, Double> durations, List<TestGroup> groups) {
+            final int groupCount = groups.size();
+            final double[] groupDurations = new double[groupCount];
+            final List<List<String>> groupTests = new ArrayList<>(groupCount);
+            for (int i = 0; i < groupCount; i++) {
+                groupTests.add(new ArrayList<>());
+            }
+            durations.entrySet().stream()
+                    .sorted(Map.Entry.<String, Double> comparingByValue().reversed()
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .forEach(en -> {
+                        int shortest = 0;
+                        for (int i = 1; i < groupCount; i++) {
+                            if (groupDurations[i] < groupDurations[shortest]) {
+                                shortest = i;
+                            }
+                        }
+                        groupDurations[shortest] += en.getValue();
+                        groupTests.get(shortest).add(en.getKey());
+                    });
+            for (int i = 0; i < groupCount; i++) {
+                final TestGroup group = groups.get(i);
+                groupTests.get(i).stream().sorted().forEach(group::add);
+                getLog().info(" - " + group.getHumanName() + ": " + groupTests.get(i).size() + " tests, estimated "
+                        + Math.round(groupDurations[i]) + " s");
+            }
         }
 
         public void write() {
@@ -140,6 +140,9 @@ public class Product {
                     .getOrDefault("jenkinsfile", ProdExcludesMojo.DEFAULT_JENKINSFILE));
             final Path jenkinsfileStageTemplate = multiModuleProjectDirectory.resolve((String) json
                     .getOrDefault("jenkinsfileStageTemplate", ProdExcludesMojo.DEFAULT_JENKINSFILE_STAGE_TEMPLATE));
+            final Path testDurations = Optional.ofNullable((String) json.get("testDurations"))
+                    .map(multiModuleProjectDirectory::resolve)
+                    .orElse(null);
             final Path productizedDependenciesFile = multiModuleProjectDirectory.resolve((String) json
                     .getOrDefault("productizedDependenciesFile", ProdExcludesMojo.DEFAULT_PRODUCTIZED_DEPENDENCIES_FILE));
             final Path allDependenciesFile = multiModuleProjectDirectory.resolve((String) json
@@ -200,6 +203,7 @@ public class Product {
                     availableCiNodes,
                     jenkinsfile,
                     jenkinsfileStageTemplate,
+                    testDurations,
                     productizedDependenciesFile,
                     allDependenciesFile,
                     nonProductizedDependenciesFile,
@@ -229,6 +233,14 @@ public class Product {
     private final int availableCiNodes;
     private final Path jenkinsfile;
     private final Path jenkinsfileStageTemplate;
+    /**
+     * A directory containing Surefire or Failsafe XML reports or a JSON or CSV file with durations of test modules
+     * from some previous run. If set, the native tests are distributed to the Jenkinsfile groups by their durations
+     * rather than by their count. See {@link TestDurations} for the supported formats.
+     *
+     * @since 4.26.1
+     */
+    private final Path testDurations;
     private final Path productizedDependenciesFile;
     private final Path allDependenciesFile;
     private final Path nonProductizedDependenciesFile;
@@ -273,6 +285,7 @@ public class Product {
             int availableCiNodes,
             Path jenkinsfile,
             Path jenkinsfileStageTemplate,
+            Path testDurations,
             Path productizedDependenciesFile,
             Path allDependenciesFile,
             Path nonProductizedDependenciesFile,
@@ -297,6 +310,7 @@ public class Product {
         this.availableCiNodes = availableCiNodes;
         this.jenkinsfile = jenkinsfile;
         this.jenkinsfileStageTemplate = jenkinsfileStageTemplate;
+        this.testDurations = testDurations;
         this.productizedDependenciesFile = productizedDependenciesFile;
         this.allDependenciesFile = allDependenciesFile;
         this.nonProductizedDependenciesFile = nonProductizedDependenciesFile;
@@ -420,6 +434,13 @@ public class Product {
         return jenkinsfileStageTemplate;
     }
 
+    /**
+     * @return the path to the test durations file or directory or {@code null} if not set
+     */
+    public Path getTestDurations() {
+        return testDurations;
+    }
+
     public Path getProductizedDependenciesFile() {
         return productizedDependenciesFile;
     }
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2020 CQ Maven Plugin
+ * project contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.l2x6.cq.maven.prod;
+
+import com.google.api.services.sheets.v4.Sheets;
+import com.google.api.services.sheets.v4.model.BatchUpdateValuesRequest;
+import com.google.api.services.sheets.v4.model.ValueRange;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.ToNumberPolicy;
+import com.google.gson.reflect.TypeToken;
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.l2x6.cq.common.OutputFiles;
+
+/**
+ * Reads and writes cell ranges of a spreadsheet. All ranges needed by a single run are read by a single
+ * {@link #batchGet(List)} call and written by a single {@link #batchUpdate(List)} call, so that the number of round
+ * trips does not depend on the number of sheets or rows.
+ */
+interface SheetBackend {
+
+    /**
+     * @param  ranges the ranges to read in A1 notation, e.g. {@code Components!A1:O}
+     * @return        the content of the given {@code ranges} in the same order
+     */
+    List<Range> batchGet(List<String> ranges);
+
+    /**
+     * @param ranges the ranges to write
+     */
+    void batchUpdate(List<Range> ranges);
+
+    /**
+     * @param  service       the Google Sheets client
+     * @param  spreadsheetId the ID of the spreadsheet to read and write
+     * @return               a new {@link SheetBackend} accessing a Google spreadsheet
+     */
+    static SheetBackend google(Sheets service, String spreadsheetId) {
+        return new GoogleSheetBackend(service, spreadsheetId);
+    }
+
+    /**
+     * @param  file the JSON file to read and write
+     * @return      a new {@link SheetBackend} storing the ranges in a local JSON file, e.g. for offline runs and
+     *              testing
+     */
+    static SheetBackend jsonFile(Path file) {
+        return new JsonFileSheetBackend(file);
+    }
+
+    /**
+     * A range of cells.
+     *
+     * @param range  the range in A1 notation
+     * @param values the rows of the range
+     */
+    record Range(String range, List<List<Object>> values) {
+    }
+
+    static class GoogleSheetBackend implements SheetBackend {
+        private final Sheets service;
+        private final String spreadsheetId;
+
+        GoogleSheetBackend(Sheets service, String spreadsheetId) {
+            this.service = service;
+            this.spreadsheetId = spreadsheetId;
+        }
+
+        @Override
+        public List<Range> batchGet(List<String> ranges) {
+            try {
+                return service.spreadsheets().values()
+                        .batchGet(spreadsheetId)
+                        .setRanges(ranges)
+                        .execute()
+                        .getValueRanges()
+                        .stream()
+                        .map(r -> new Range(r.getRange(),
+                                r.getValues() == null ? Collections.emptyList() : r.getValues()))
+                        .collect(Collectors.toList());
+            } catch (IOException e) {
+                throw new RuntimeException("Could not get ranges " + ranges + " from spreadsheet " + spreadsheetId, e);
+            }
+        }
+
+        @Override
+        public void batchUpdate(List<Range> ranges) {
+            final List<ValueRange> data = ranges.stream()
+                    .map(r -> new ValueRange().setRange(r.range()).setValues(r.values()))
+                    .collect(Collectors.toList());
+            try {
+                service.spreadsheets().values()
+                        .batchUpdate(spreadsheetId, new BatchUpdateValuesRequest()
+                                .setValueInputOption("USER_ENTERED")
+                                .setData(data))
+                        .execute();
+            } catch (IOException e) {
+                throw new RuntimeException("Could not update spreadsheet " + spreadsheetId, e);
+            }
+        }
+    }
+
+    /**
+     * Stores the ranges as a JSON object whose keys are range names and whose values are arrays of rows.
+     */
+    static class JsonFileSheetBackend implements SheetBackend {
+        private static final Type RANGES_TYPE = new TypeToken<LinkedHashMap<String, List<List<Object>>>>() {
+        }.getType();
+
+        private final Path file;
+        /* Keep integral numbers as they are rather than turning 1 into 1.0 */
+        private final Gson gson = new GsonBuilder()
+                .setPrettyPrinting()
+                .setObjectToNumberStrategy(ToNumberPolicy.LAZILY_PARSED_NUMBER)
+                .create();
+
+        JsonFileSheetBackend(Path file) {
+            this.file = file;
+        }
+
+        @Override
+        public List<Range> batchGet(List<String> ranges) {
+            final Map<String, List<List<Object>>> data = read();
+            final List<Range> result = new ArrayList<>(ranges.size());
+            for (String range : ranges) {
+                final List<List<Object>> values = data.get(range);
+                if (values == null) {
+                    throw new IllegalStateException("Could not find range " + range + " in " + file);
+                }
+                result.add(new Range(range, values));
+            }
+            return result;
+        }
+
+        @Override
+        public void batchUpdate(List<Range> ranges) {
+            final Map<String, List<List<Object>>> data = Files.exists(file) ? read() : new LinkedHashMap<>();
+            for (Range range : ranges) {
+                data.put(range.range(), range.values());
+            }
+            OutputFiles.writeIfChanged(file, gson.toJson(data, RANGES_TYPE).getBytes(StandardCharsets.UTF_8));
+        }
+
+        Map<String, List<List<Object>>> read() {
+            try (Reader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                final Map<String, List<List<Object>>> result = gson.fromJson(in, RANGES_TYPE);
+                /* null for an empty file */
+                return result == null ? new LinkedHashMap<>() : result;
+            } catch (IOException e) {
+                throw new RuntimeException("Could not read " + file, e);
+            }
+        }
+    }
+
+}
@@ -18,7 +18,6 @@ package org.l2x6.cq.maven.prod;
 
 import java.io.BufferedInputStream;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.HttpURLConnection;
@@ -33,20 +32,21 @@ import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
-import org.apache.commons.io.FileUtils;
 import org.apache.maven.RepositoryUtils;
 import org.apache.maven.model.Model;
 import org.apache.maven.model.Profile;
@@ -65,14 +65,14 @@ import org.eclipse.aether.graph.Dependency;
 import org.eclipse.aether.graph.DependencyFilter;
 import org.eclipse.aether.graph.DependencyNode;
 import org.eclipse.aether.repository.RemoteRepository;
-import org.eclipse.aether.resolution.ArtifactDescriptorException;
-import org.eclipse.aether.resolution.ArtifactDescriptorRequest;
-import org.eclipse.aether.resolution.ArtifactDescriptorResult;
 import org.eclipse.aether.resolution.DependencyRequest;
 import org.eclipse.aether.resolution.DependencyResult;
 import org.eclipse.aether.util.artifact.JavaScopes;
 import org.eclipse.aether.util.filter.DependencyFilterUtils;
 import org.l2x6.cq.common.CqCommonUtils;
+import org.l2x6.cq.common.ManagedDependenciesCache;
+import org.l2x6.cq.common.OutputFiles;
+import org.l2x6.cq.common.ParallelTasks;
 import org.l2x6.pom.tuner.MavenSourceTree;
 import org.l2x6.pom.tuner.PomTransformer;
 import org.l2x6.pom.tuner.PomTransformer.ContainerElement;
@@ -179,6 +179,16 @@ public class SyncExamplesFromUpstreamMojo extends AbstractMojo {
     @Parameter(property = "cq.useCache", defaultValue = "true")
     boolean isUseCache;
 
+    /**
+     * Whether to only collect the dependency graphs of the example projects instead of resolving them. The dependency
+     * analysis only needs the coordinates of the dependencies, so downloading the artifacts themselves is only useful
+     * for pre-populating the local Maven repository
+     *
+     * @since 4.26.1
+     */
+    @Parameter(property = "cq.collectOnly", defaultValue = "true")
+    boolean isCollectOnly = true;
+
     /**
      * The path to the directory where projects should be synced from. When set, this overrides the default behavior where
      * the sources to sync from are downloaded from GitHub
@@ -230,6 +240,16 @@ public class SyncExamplesFromUpstreamMojo extends AbstractMojo {
     @Parameter(property = "cq.ignoredDependencies")
     Set<String> ignoredDependencies;
 
+    /**
+     * The number of example projects to analyze concurrently. Values less than {@code 1} mean the number of available
+     * processors.
+     *
+     * @since 4.26.1
+     */
+    @Parameter(property = "cq.parallelism", defaultValue = "0")
+    int parallelism;
+
+    private ManagedDependenciesCache managedDependenciesCache;
     List<SourceTransformer> preSyncTransformers = new ArrayList<>();
     List<SourceTransformer> postSyncTransformers = new ArrayList<>();
 
@@ -260,34 +280,53 @@ public class SyncExamplesFromUpstreamMojo extends AbstractMojo {
     void downloadGitHubBranchArchive() throws MojoExecutionException {
         URL downloadUrl = getGitHubBranchArchiveURL();
         Path downloadDestination = getArchivePath();
-        if (isUseCache && Files.exists(downloadDestination)) {
-            getLog().info("Using cached download of %s".formatted(downloadUrl));
-            return;
-        }
+        Path etagFile = getArchiveETagPath();
+        boolean isCached = isUseCache && Files.exists(downloadDestination);
 
-        getLog().info("Downloading %s to %s".formatted(downloadUrl, downloadDestination));
         HttpURLConnection connection = null;
         try {
             connection = (HttpURLConnection) downloadUrl.openConnection();
             connection.setRequestMethod("GET");
+            if (isCached && Files.exists(etagFile)) {
+                // Let the server tell us whether the cached download is still up to date
+                connection.setRequestProperty("If-None-Match", Files.readString(etagFile, StandardCharsets.UTF_8).trim());
+            }
             connection.connect();
 
-            if (connection.getResponseCode() != HttpURLConnection.HTTP_OK) {
+            int responseCode = connection.getResponseCode();
+            if (isCached && responseCode == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                getLog().info("Using cached download of %s as it has not changed upstream".formatted(downloadUrl));
+                return;
+            }
+            if (responseCode != HttpURLConnection.HTTP_OK) {
                 throw new MojoExecutionException("Failed to download upstream branch sources from: " + downloadUrl);
             }
 
-            try (InputStream inputStream = new BufferedInputStream(connection.getInputStream());
-                    FileOutputStream fileOutputStream = new FileOutputStream(downloadDestination.toFile())) {
-
-                byte[] buffer = new byte[1024];
-                int bytesRead;
-                while ((bytesRead = inputStream.read(buffer)) != -1) {
-                    fileOutputStream.write(buffer, 0, bytesRead);
+            getLog().info("Downloading %s to %s".formatted(downloadUrl, downloadDestination));
+            Files.createDirectories(downloadDestination.getParent());
+            Path tempFile = Files.createTempFile(downloadDestination.getParent(),
+                    downloadDestination.getFileName().toString(), ".tmp");
+            try {
+                try (InputStream inputStream = connection.getInputStream()) {
+                    Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
                 }
-            } catch (IOException e) {
-                throw new RuntimeException(e);
+                Files.move(tempFile, downloadDestination, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+
+            String etag = connection.getHeaderField("ETag");
+            if (etag != null) {
+                Files.writeString(etagFile, etag, StandardCharsets.UTF_8);
+            } else {
+                Files.deleteIfExists(etagFile);
             }
         } catch (IOException e) {
+            if (isCached) {
+                getLog().warn("Using cached download of %s as it could not be checked for updates: %s"
+                        .formatted(downloadUrl, e.getMessage()));
+                return;
+            }
             throw new RuntimeException(e);
         } finally {
             if (connection != null) {
@@ -296,41 +335,62 @@ public class SyncExamplesFromUpstreamMojo extends AbstractMojo {
         }
     }
 
+    /**
+     * Extracts the downloaded archive incrementally: only the files whose content differs from the already extracted
+     * ones are written and the files not present in the archive anymore are removed.
+     */
     void extractZipFile() throws Exception {
         Path zipFile = getArchivePath();
-        Path parent = zipFile.getParent();
+        /* Normalized, so that it can be compared with the normalized entry paths below */
+        Path parent = zipFile.toAbsolutePath().normalize().getParent();
         Path extractedDir = parent.resolve(zipFile.getFileName().toString().replace(".zip", ""));
 
-        if (Files.exists(extractedDir)) {
-            FileUtils.deleteDirectory(extractedDir.toFile());
-        }
-
         getLog().info("Extracting " + zipFile);
+        Set<Path> archivePaths = new HashSet<>();
+        OutputFiles outputFiles = new OutputFiles();
         try (ZipInputStream zipInputStream = new ZipInputStream(new BufferedInputStream(Files.newInputStream(zipFile)))) {
             ZipEntry entry;
             while ((entry = zipInputStream.getNextEntry()) != null) {
-                String fileName = entry.getName();
-                Path filePath = parent.resolve(fileName);
+                Path filePath = parent.resolve(entry.getName()).normalize();
+                if (!filePath.startsWith(parent)) {
+                    throw new IOException("Zip entry %s points outside of %s".formatted(entry.getName(), parent));
+                }
+                // Mark the entry and all its ancestors as present in the archive
+                Path ancestor = filePath;
+                while (!ancestor.equals(parent) && archivePaths.add(ancestor)) {
+                    ancestor = ancestor.getParent();
+                }
                 if (entry.isDirectory()) {
                     Files.createDirectories(filePath);
                 } else {
-                    Files.createDirectories(filePath.getParent());
-                    byte[] buffer = new byte[1024];
-                    int bytesRead;
-                    try (FileOutputStream fos = new FileOutputStream(filePath.toFile())) {
-                        while ((bytesRead = zipInputStream.read(buffer)) != -1) {
-                            fos.write(buffer, 0, bytesRead);
-                        }
-                    }
+                    outputFiles.write(filePath, zipInputStream.readAllBytes());
                 }
                 zipInputStream.closeEntry();
             }
         }
+
+        // Remove the leftovers of previous extractions
+        int removed = 0;
+        if (Files.exists(extractedDir)) {
+            List<Path> stalePaths;
+            try (Stream<Path> paths = Files.walk(extractedDir)) {
+                stalePaths = paths
+                        .filter(path -> !archivePaths.contains(path))
+                        .sorted(Comparator.reverseOrder())
+                        .collect(Collectors.toList());
+            }
+            for (Path stalePath : stalePaths) {
+                Files.delete(stalePath);
+                removed++;
+            }
+        }
+        getLog().info("Extracted %s: %s, %d removed".formatted(zipFile, outputFiles.summary(), removed));
     }
 
     Map<String, Set<GAV>> analyzeDependencies() throws Exception {
         Path downloadDestination = getExtractedArchivePath();
-        Map<String, Set<GAV>> projectDependencies = new TreeMap<>();
+        /* Keys are the example project names, values the pom.xml files to analyze */
+        Map<String, Path> projectPoms = new TreeMap<>();
 
         getLog().info("⚙️ Analyzing example projects. This may take some time if dependencies are not yet cached...");
         Files.walkFileTree(downloadDestination, new SimpleFileVisitor<>() {
@@ -347,20 +407,12 @@ public class SyncExamplesFromUpstreamMojo extends AbstractMojo {
 
                     if ((!projectExcludes.contains(exampleProjectName))
                             && (projectIncludes.isEmpty() || projectIncludes.contains(exampleProjectName))) {
-                        try {
-                            getLog().info("✨ Analyzing example project " + exampleProjectName);
-                            Set<GAV> dependencies = getDependencies(file);
-
-                            // Handle multi-module projects
-                            Path parentPomXml = exampleProjectDirectory.getParent().resolve("pom.xml");
-                            if (Files.exists(parentPomXml)) {
-                                exampleProjectName = parentPomXml.getParent().getFileName() + "/" + exampleProjectName;
-                            }
-
-                            projectDependencies.put(exampleProjectName, dependencies);
-                        } catch (Exception e) {
-                            throw new RuntimeException(e);
+                        // Handle multi-module projects
+                        Path parentPomXml = exampleProjectDirectory.getParent().resolve("pom.xml");
+                        if (Files.exists(parentPomXml)) {
+                            exampleProjectName = parentPomXml.getParent().getFileName() + "/" + exampleProjectName;
                         }
+                        projectPoms.put(exampleProjectName, file);
                     } else {
                         getLog().info("❌ Skipping excluded project %s".formatted(exampleProjectName));
                     }
@@ -369,6 +421,21 @@ public class SyncExamplesFromUpstreamMojo extends AbstractMojo {
             }
         });
 
+        // Resolving the dependencies is mostly waiting for I/O, so analyze the projects concurrently
+        List<Map.Entry<String, Path>> projects = new ArrayList<>(projectPoms.entrySet());
+        List<Set<GAV>> results = ParallelTasks.map(projects, parallelism, project -> {
+            getLog().info("✨ Analyzing example project " + project.getKey());
+            try {
+                return getDependencies(project.getValue());
+            } catch (Exception e) {
+                throw new RuntimeException("Could not analyze the dependencies of " + project.getValue(), e);
+            }
+        });
+
+        Map<String, Set<GAV>> projectDependencies = new TreeMap<>();
+        for (int i = 0; i < projects.size(); i++) {
+            projectDependencies.put(projects.get(i).getKey(), results.get(i));
+        }
         return projectDependencies;
     }
 
@@ -400,13 +467,16 @@ public class SyncExamplesFromUpstreamMojo extends AbstractMojo {
                 Files.walk(projectToSync).forEach(source -> {
                     try {
                         Path destination = syncToDir.toPath().resolve(downloadDestination.relativize(source));
-                        if (Files.isDirectory(destination) && Files.exists(destination)) {
+                        if (Files.isDirectory(source)) {
+                            Files.createDirectories(destination);
                             return;
                         }
 
-                        if (!FileUtils.contentEquals(source.toFile(), destination.toFile()) || isForce) {
+                        if (isForce) {
                             getLog().debug("Syncing file %s to %s".formatted(source, destination));
                             Files.copy(source, destination, StandardCopyOption.REPLACE_EXISTING);
+                        } else if (OutputFiles.writeIfChanged(destination, Files.readAllBytes(source))) {
+                            getLog().debug("Synced file %s to %s".formatted(source, destination));
                         } else {
                             getLog().debug("Not syncing file %s to %s. Content already matches".formatted(source, destination));
                         }
@@ -477,6 +547,7 @@ public class SyncExamplesFromUpstreamMojo extends AbstractMojo {
 
         CollectRequest collectRequest = new CollectRequest();
         collectRequest.setRepositories(repositories);
+        ManagedDependenciesCache managedDependenciesCache = getManagedDependenciesCache();
 
         managedDependencies.forEach(dep -> {
             String groupId = resolveGavElement(dep.getGroupId(), properties);
@@ -485,30 +556,24 @@ public class SyncExamplesFromUpstreamMojo extends AbstractMojo {
 
             Artifact artifact = new DefaultArtifact(
                     groupId + ":" + artifactId + ":pom:" + version);
-            ArtifactDescriptorRequest descriptorRequest = new ArtifactDescriptorRequest();
-            descriptorRequest.setArtifact(artifact);
-            descriptorRequest.setRepositories(repositories);
-            try {
-                ArtifactDescriptorResult descriptorResult = repositorySystem.readArtifactDescriptor(session,
-                        descriptorRequest);
-                descriptorResult.getManagedDependencies().forEach(collectRequest::addManagedDependency);
-                collectRequest.addManagedDependency(RepositoryUtils.toDependency(dep, session.getArtifactTypeRegistry()));
-            } catch (ArtifactDescriptorException e) {
-                throw new RuntimeException(e);
-            }
+            // The same BOMs are imported by most of the examples, so their descriptors are read only once
+            managedDependenciesCache.getManagedDependencies(artifact, repositories)
+                    .forEach(collectRequest::addManagedDependency);
+            collectRequest.addManagedDependency(RepositoryUtils.toDependency(dep, session.getArtifactTypeRegistry()));
         });
 
+        // Index the managed dependencies by groupId:artifactId; the first occurrence wins
+        Map<String, Dependency> managedDependenciesByGa = new HashMap<>();
+        for (Dependency dependency : collectRequest.getManagedDependencies()) {
+            Artifact artifact = dependency.getArtifact();
+            managedDependenciesByGa.putIfAbsent(artifact.getGroupId() + ":" + artifact.getArtifactId(), dependency);
+        }
+
         dependencies.forEach(dep -> {
-            Optional<Dependency> match = collectRequest.getManagedDependencies()
-                    .stream().filter(dependency -> {
-                        Artifact artifact = dependency.getArtifact();
-                        return artifact.getGroupId().equals(dep.getGroupId())
-                                && artifact.getArtifactId().equals(dep.getArtifactId());
-                    })
-                    .findFirst();
-
-            if (match.isPresent()) {
-                collectRequest.addDependency(match.get());
+            Dependency match = managedDependenciesByGa.get(dep.getGroupId() + ":" + dep.getArtifactId());
+
+            if (match != null) {
+                collectRequest.addDependency(match);
             } else {
                 dep.setGroupId(resolveGavElement(dep.getGroupId(), properties));
                 dep.setArtifactId(resolveGavElement(dep.getArtifactId(), properties));
@@ -525,10 +590,17 @@ public class SyncExamplesFromUpstreamMojo extends AbstractMojo {
             }
         });
 
-        DependencyFilter classpathFilter = DependencyFilterUtils.classpathFilter(JavaScopes.COMPILE);
-        DependencyRequest dependencyRequest = new DependencyRequest(collectRequest, classpathFilter);
-        DependencyResult result = repositorySystem.resolveDependencies(session, dependencyRequest);
-        List<DependencyNode> children = result.getRoot().getChildren();
+        DependencyNode root;
+        if (isCollectOnly) {
+            // Only the coordinates of the direct dependencies are inspected, so there is no need to download any jars
+            root = repositorySystem.collectDependencies(session, collectRequest).getRoot();
+        } else {
+            DependencyFilter classpathFilter = DependencyFilterUtils.classpathFilter(JavaScopes.COMPILE);
+            DependencyRequest dependencyRequest = new DependencyRequest(collectRequest, classpathFilter);
+            DependencyResult result = repositorySystem.resolveDependencies(session, dependencyRequest);
+            root = result.getRoot();
+        }
+        List<DependencyNode> children = root.getChildren();
         Set<GAV> projectDependencies = new HashSet<>();
         for (DependencyNode node : children) {
             Artifact artifact = node.getArtifact();
@@ -538,6 +610,13 @@ public class SyncExamplesFromUpstreamMojo extends AbstractMojo {
         return projectDependencies;
     }
 
+    synchronized ManagedDependenciesCache getManagedDependenciesCache() {
+        if (managedDependenciesCache == null) {
+            managedDependenciesCache = new ManagedDependenciesCache(repositorySystem, session);
+        }
+        return managedDependenciesCache;
+    }
+
     String resolveGavElement(String value, Properties properties) {
         if (value.contains("${")) {
             Matcher matcher = EXPRESSION.matcher(value);
@@ -691,6 +770,11 @@ public class SyncExamplesFromUpstreamMojo extends AbstractMojo {
         return tmpDir.toPath().resolve("camel-quarkus-examples-%s.zip".formatted(getUpstreamBranchName()));
     }
 
+    Path getArchiveETagPath() {
+        Path archivePath = getArchivePath();
+        return archivePath.resolveSibling(archivePath.getFileName() + ".etag");
+    }
+
     URL getGitHubBranchArchiveURL() {
         String url = getGitHubDownloadBaseUrl().formatted(getUpstreamBranchName());
         try {
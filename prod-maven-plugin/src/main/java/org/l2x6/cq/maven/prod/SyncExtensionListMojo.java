@@ -28,7 +28,6 @@ import com.google.api.client.json.gson.GsonFactory;
 import com.google.api.client.util.store.FileDataStoreFactory;
 import com.google.api.services.sheets.v4.Sheets;
 import com.google.api.services.sheets.v4.SheetsScopes;
-import com.google.api.services.sheets.v4.model.ValueRange;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -58,9 +57,6 @@ import java.util.Set;
 import java.util.TreeSet;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import org.apache.camel.tooling.model.ArtifactModel;
-import org.apache.camel.tooling.model.BaseModel;
-import org.apache.camel.tooling.model.EipModel;
 import org.apache.camel.tooling.model.Kind;
 import org.apache.maven.model.Model;
 import org.apache.maven.plugin.AbstractMojo;
@@ -74,10 +70,13 @@ import org.apache.maven.project.MavenProject;
 import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.repository.RemoteRepository;
+import org.l2x6.cq.common.CatalogIndex;
 import org.l2x6.cq.common.CqCatalog;
 import org.l2x6.cq.common.CqCatalog.Flavor;
 import org.l2x6.cq.common.CqCatalog.GavCqCatalog;
 import org.l2x6.cq.common.CqCommonUtils;
+import org.l2x6.cq.common.ParallelTasks;
+import org.l2x6.cq.maven.prod.SheetBackend.Range;
 import org.l2x6.cq.maven.prod.SyncExtensionListMojo.Sheet.Record;
 
 /**
@@ -121,6 +120,16 @@ public class SyncExtensionListMojo extends AbstractMojo {
     @Parameter(defaultValue = "${repositorySystemSession}", readonly = true, required = true)
     private RepositorySystemSession repoSession;
 
+    @Parameter(property = "cq.parallelism", defaultValue = "0")
+    int parallelism;
+
+    /**
+     * A local JSON file to read and write instead of the Google spreadsheet, e.g. for offline runs. The keys of the
+     * top level JSON object are the ranges such as {@code Components!A1:O} and the values are arrays of rows.
+     */
+    @Parameter(property = "cq.sheetFile")
+    File sheetFile;
+
     private static final Set<String> PRIMARY_LABELS = new LinkedHashSet<>(
             Arrays.asList("eip", "dataformat", "language", "rest", "configuration", "error"));
 
@@ -137,20 +146,36 @@ public class SyncExtensionListMojo extends AbstractMojo {
         final String camelVersion = findCamelVersion(localRepositoryPath);
 
         try {
-            final NetHttpTransport HTTP_TRANSPORT = GoogleNetHttpTransport.newTrustedTransport();
-            final JsonFactory JSON_FACTORY = GsonFactory.getDefaultInstance();
-            final List<String> SCOPES = Collections.singletonList(SheetsScopes.SPREADSHEETS);
-
-            final Comparator<ArtifactModel<?>> comparator = CqCatalog.compareArtifactId()
-                    .thenComparing(BaseModel.compareTitle());
-            final Sheets service = new Sheets.Builder(HTTP_TRANSPORT, JSON_FACTORY,
-                    getCredentials(HTTP_TRANSPORT, JSON_FACTORY, SCOPES))
-                    .setApplicationName(APPLICATION_NAME)
-                    .build();
+            final Comparator<CatalogIndex.Entry> comparator = CatalogIndex.Entry.compareArtifactId()
+                    .thenComparing(CatalogIndex.Entry.compareTitle());
+            final SheetBackend backend;
+            if (sheetFile != null) {
+                getLog().info("Using " + sheetFile + " instead of spreadsheet " + googleSpreadsheetId);
+                backend = SheetBackend.jsonFile(sheetFile.toPath());
+            } else {
+                final NetHttpTransport HTTP_TRANSPORT = GoogleNetHttpTransport.newTrustedTransport();
+                final JsonFactory JSON_FACTORY = GsonFactory.getDefaultInstance();
+                final List<String> SCOPES = Collections.singletonList(SheetsScopes.SPREADSHEETS);
+                final Sheets service = new Sheets.Builder(HTTP_TRANSPORT, JSON_FACTORY,
+                        getCredentials(HTTP_TRANSPORT, JSON_FACTORY, SCOPES))
+                        .setApplicationName(APPLICATION_NAME)
+                        .build();
+                backend = SheetBackend.google(service, googleSpreadsheetId);
+            }
+
+            /* Read all sheets at once */
+            final List<Kind> kinds = Stream.concat(CqCatalog.kinds(), Stream.of(Kind.eip)).collect(Collectors.toList());
+            final List<Range> ranges = backend.batchGet(kinds.stream().map(Sheet::rangeSpec).collect(Collectors.toList()));
+            final Map<Kind, Range> rangesByKind = new EnumMap<>(Kind.class);
+            for (int i = 0; i < kinds.size(); i++) {
+                rangesByKind.put(kinds.get(i), ranges.get(i));
+            }
+            final List<Range> updatedRanges = new ArrayList<>();
+
             try (GavCqCatalog camelCatalog = GavCqCatalog.open(localRepositoryPath, Flavor.camel, camelVersion, repositories,
-                    repoSystem, repoSession);
+                    repoSystem, repoSession, 1, getLog());
                     GavCqCatalog camelQuarkusCatalog = GavCqCatalog.open(localRepositoryPath, Flavor.camelQuarkus,
-                            camelQuarkusVersion, repositories, repoSystem, repoSession)) {
+                            camelQuarkusVersion, repositories, repoSystem, repoSession, 1, getLog())) {
 
                 Map<Kind, Map<String, NativeSupport>> nativeSupportsMap = new HashMap<>();
 
@@ -160,18 +185,18 @@ public class SyncExtensionListMojo extends AbstractMojo {
                     getLog().info("Updating " + CqCommonUtils.humanPlural(kind));
                     final Set<String> allSchemes = new LinkedHashSet<>();
 
-                    final Map<String, ArtifactModel<?>> camelModels = new LinkedHashMap<>();
-                    camelCatalog.models(kind)
-                            .filter(CqCatalog::isFirstScheme)
+                    final Map<String, CatalogIndex.Entry> camelModels = new LinkedHashMap<>();
+                    camelCatalog.entries(kind)
+                            .filter(CatalogIndex.Entry::isFirstScheme)
                             .sorted(comparator)
                             .forEach(m -> {
                                 camelModels.put(m.getName(), m);
                                 allSchemes.add(m.getName());
                             });
 
-                    final Map<String, ArtifactModel<?>> cqModels = new LinkedHashMap<>();
-                    camelQuarkusCatalog.models(kind)
-                            .filter(CqCatalog::isFirstScheme)
+                    final Map<String, CatalogIndex.Entry> cqModels = new LinkedHashMap<>();
+                    camelQuarkusCatalog.entries(kind)
+                            .filter(CatalogIndex.Entry::isFirstScheme)
                             .sorted(comparator)
                             .forEach(m -> {
                                 cqModels.put(m.getName(), m);
@@ -179,13 +204,14 @@ public class SyncExtensionListMojo extends AbstractMojo {
                             });
 
                     /* Go through extensions available in the spreadsheet and update them */
-                    final Sheet sheet = Sheet.read(service, googleSpreadsheetId, kind, getLog(), Column.artifactModelColumns());
+                    final Sheet sheet = Sheet.read(rangesByKind.get(kind), kind, getLog(), Column.artifactModelColumns());
 
                     for (String scheme : allSchemes) {
                         sheet.update(scheme, camelModels.get(scheme), cqModels.get(scheme), nativeSupportsMap);
                     }
 
-                    sheet.update(Comparator.comparing(Record::getArtifactIdBase).thenComparing(Record::getScheme));
+                    updatedRanges.add(
+                            sheet.update(Comparator.comparing(Record::getArtifactIdBase).thenComparing(Record::getScheme)));
                 });
 
                 {
@@ -193,15 +219,15 @@ public class SyncExtensionListMojo extends AbstractMojo {
                     getLog().info("Updating " + CqCommonUtils.humanPlural(kind));
                     final Set<String> allSchemes = new LinkedHashSet<>();
 
-                    final Map<String, EipModel> camelModels = new LinkedHashMap<>();
-                    camelCatalog.eips()
-                            .sorted(BaseModel.compareTitle())
+                    final Map<String, CatalogIndex.Entry> camelModels = new LinkedHashMap<>();
+                    camelCatalog.entries(Kind.eip)
+                            .sorted(CatalogIndex.Entry.compareTitle())
                             .forEach(m -> {
                                 camelModels.put(m.getName(), m);
                                 allSchemes.add(m.getName());
                             });
 
-                    final Map<String, EipModel> cqModels = new LinkedHashMap<>();
+                    final Map<String, CatalogIndex.Entry> cqModels = new LinkedHashMap<>();
                     //                    camelQuarkusCatalog.eips()
                     //                            .sorted(BaseModel.compareTitle())
                     //                            .forEach(m -> {
@@ -209,66 +235,82 @@ public class SyncExtensionListMojo extends AbstractMojo {
                     //                                allSchemes.add(m.getName());
                     //                            });
 
-                    Map<String, Set<String>> occurrences = findOccurrences(allSchemes, Paths.get("."), getLog());
+                    Map<String, Set<String>> occurrences = findOccurrences(allSchemes, Paths.get("."), parallelism,
+                            getLog());
 
                     /* Go through extensions available in the spreadsheet and update them */
-                    final Sheet sheet = Sheet.read(service, googleSpreadsheetId, kind, getLog(), Column.eipColumns());
+                    final Sheet sheet = Sheet.read(rangesByKind.get(kind), kind, getLog(), Column.eipColumns());
 
                     for (String scheme : allSchemes) {
                         sheet.updateBase(scheme, camelModels.get(scheme), cqModels.get(scheme), occurrences.get(scheme),
                                 nativeSupportsMap);
                     }
 
-                    sheet.update(Comparator.comparing(Record::getKind).thenComparing(Record::getScheme));
+                    updatedRanges.add(sheet.update(Comparator.comparing(Record::getKind).thenComparing(Record::getScheme)));
                 }
 
             }
+
+            /* Write all sheets at once */
+            backend.batchUpdate(updatedRanges);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
     }
 
-    static Map<String, Set<String>> findOccurrences(final Set<String> allSchemes, Path baseDir, Log log) {
+    static Map<String, Set<String>> findOccurrences(final Set<String> allSchemes, Path baseDir, int parallelism, Log log) {
 
         final Path itestsDir = baseDir.resolve("integration-tests");
         if (!Files.isDirectory(itestsDir)) {
             return null;
         }
         final Map<String, Set<String>> occurrences = new LinkedHashMap<>();
+        /* Several schemes may share a search string, e.g. to-d and tod */
+        final Map<String, List<String>> schemesByJavaSearch = new LinkedHashMap<>();
+        final Map<String, List<String>> schemesByXmlSearch = new LinkedHashMap<>();
         for (String scheme : allSchemes) {
             occurrences.put(scheme, new TreeSet<>());
+            final String lcSearch = scheme.toLowerCase(Locale.ROOT).replace("-", "");
+            schemesByJavaSearch.computeIfAbsent("." + lcSearch + "(", k -> new ArrayList<>()).add(scheme);
+            schemesByXmlSearch.computeIfAbsent("<" + lcSearch + ">", k -> new ArrayList<>()).add(scheme);
         }
+        /* Search for all schemes in a single pass over each file */
+        final AhoCorasick<String> javaMatcher = new AhoCorasick<>(schemesByJavaSearch);
+        final AhoCorasick<String> xmlMatcher = new AhoCorasick<>(schemesByXmlSearch);
+
+        final List<Path> sourceFiles;
         try (Stream<Path> files = Files.walk(itestsDir)) {
-            files
+            sourceFiles = files
                     .filter(Files::isRegularFile)
-                    .forEach(p -> {
+                    .filter(p -> {
                         final String fileName = p.getFileName().toString();
-                        final boolean isJava = fileName.endsWith(".java");
-                        final boolean isXml = fileName.endsWith(".xml") && !"pom.xml".equals(fileName);
-                        if (isJava || isXml) {
-                            final Path absPath = p;
-                            try {
-                                String src = new String(Files.readAllBytes(absPath), StandardCharsets.UTF_8);
-                                src = src.toLowerCase(Locale.ROOT);
-                                for (Entry<String, Set<String>> en : occurrences.entrySet()) {
-                                    final String lcSearch = en.getKey().toLowerCase(Locale.ROOT).replace("-", "");
-                                    final String search = isJava ? "." + lcSearch + "(" : "<" + lcSearch + ">";
-                                    if (src.contains(search)) {
-                                        final Path relPath = baseDir.relativize(absPath);
-                                        en.getValue().add("https://github.com/apache/camel-quarkus/tree/main/"
-                                                + relPath.toString().replace('\\', '/'));
-                                    }
-                                }
-                            } catch (IOException e) {
-                                throw new RuntimeException(e);
-                            }
-                        }
-                    });
-
+                        return fileName.endsWith(".java") || (fileName.endsWith(".xml") && !"pom.xml".equals(fileName));
+                    })
+                    .collect(Collectors.toList());
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
 
+        final List<Set<String>> schemesPerFile = ParallelTasks.map(sourceFiles, parallelism, p -> {
+            try {
+                final String src = new String(Files.readAllBytes(p), StandardCharsets.UTF_8).toLowerCase(Locale.ROOT);
+                return (p.getFileName().toString().endsWith(".java") ? javaMatcher : xmlMatcher).findAll(src);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        for (int i = 0; i < sourceFiles.size(); i++) {
+            final Set<String> schemes = schemesPerFile.get(i);
+            if (!schemes.isEmpty()) {
+                final Path relPath = baseDir.relativize(sourceFiles.get(i));
+                final String url = "https://github.com/apache/camel-quarkus/tree/main/"
+                        + relPath.toString().replace('\\', '/');
+                for (String scheme : schemes) {
+                    occurrences.get(scheme).add(url);
+                }
+            }
+        }
+
         log.info("Found EIP occurrences:");
         for (Entry<String, Set<String>> en : occurrences.entrySet()) {
             log.info("  - " + en.getKey());
@@ -385,19 +427,16 @@ public class SyncExtensionListMojo extends AbstractMojo {
 
     static class Sheet {
 
-        public static Sheet read(Sheets service, String spreadsheetId, Kind kind, Log log, Column... requiredColumns) {
-            final String sheetName = CqCommonUtils.humanPlural(kind);
-            final String rangeSpec = sheetName + "!A1:O";
-            final ValueRange range;
-            try {
-                range = service.spreadsheets().values()
-                        .get(spreadsheetId, rangeSpec)
-                        .execute();
+        public static String rangeSpec(Kind kind) {
+            return CqCommonUtils.humanPlural(kind) + "!A1:O";
+        }
 
-            } catch (IOException e) {
-                throw new RuntimeException("Could not get range " + rangeSpec + " from spreadsheet " + spreadsheetId, e);
+        public static Sheet read(Range range, Kind kind, Log log, Column... requiredColumns) {
+            final String sheetName = CqCommonUtils.humanPlural(kind);
+            if (range.values().isEmpty()) {
+                throw new IllegalStateException("Could not find any header row in sheet " + sheetName);
             }
-            final List<Object> headers = range.getValues().get(0);
+            final List<Object> headers = range.values().get(0);
             final EnumMap<Column, Integer> colMap = new EnumMap<>(Column.class);
             final Set<Column> requiredCols = new LinkedHashSet<>(Arrays.asList(requiredColumns));
             for (int i = 0; i < headers.size(); i++) {
@@ -416,20 +455,20 @@ public class SyncExtensionListMojo extends AbstractMojo {
                                         .collect(Collectors.joining(", "))
                                 + "] in sheet " + sheetName);
             }
-            return new Sheet(service, spreadsheetId, range, colMap, headers, log);
+            return new Sheet(range, colMap, headers, log);
         }
 
         final private Set<String> updatedSchemes = new HashSet<>();
         final private List<String> newSchemes = new ArrayList<>();
 
-        public Record updateBase(String scheme, BaseModel<?> camelModel, BaseModel<?> cqModel, Set<String> occurrences,
-                Map<Kind, Map<String, NativeSupport>> nativeSupportsMap) {
+        public Record updateBase(String scheme, CatalogIndex.Entry camelModel, CatalogIndex.Entry cqModel,
+                Set<String> occurrences, Map<Kind, Map<String, NativeSupport>> nativeSupportsMap) {
             Record row = findRecord(scheme);
             if (row == null) {
                 row = addRecord(scheme);
                 newSchemes.add(scheme);
             }
-            BaseModel<?> model = cqModel != null ? cqModel : camelModel;
+            CatalogIndex.Entry model = cqModel != null ? cqModel : camelModel;
             row.set(Column.Name, model.getTitle());
             if (occurrences != null) {
                 final StringBuilder serializedOccurrences = new StringBuilder();
@@ -480,7 +519,7 @@ public class SyncExtensionListMojo extends AbstractMojo {
             return row;
         }
 
-        public String eipKind(BaseModel<?> model) {
+        public String eipKind(CatalogIndex.Entry model) {
             Set<String> labels = new LinkedHashSet<>();
             if (model.getLabel() != null) {
                 Stream.of(model.getLabel().split(",")).forEach(labels::add);
@@ -498,7 +537,7 @@ public class SyncExtensionListMojo extends AbstractMojo {
             return kind;
         }
 
-        public void update(String scheme, ArtifactModel<?> camelModel, ArtifactModel<?> cqModel,
+        public void update(String scheme, CatalogIndex.Entry camelModel, CatalogIndex.Entry cqModel,
                 Map<Kind, Map<String, NativeSupport>> nativeSupportsMap) {
 
             final Record row = updateBase(scheme, camelModel, cqModel, null, nativeSupportsMap);
@@ -529,22 +568,17 @@ public class SyncExtensionListMojo extends AbstractMojo {
             return null;
         }
 
-        private final Sheets service;
-        private final String spreadsheetId;
-        private final ValueRange range;
+        private final String range;
         private final EnumMap<Column, Integer> colMap;
         private final List<Object> headers;
         private final List<Record> rows;
         private final Log log;
 
-        public Sheet(Sheets service, String spreadsheetId, ValueRange range, EnumMap<Column, Integer> colMap,
-                List<Object> headers, Log log) {
-            this.service = service;
-            this.spreadsheetId = spreadsheetId;
-            this.range = range;
+        public Sheet(Range range, EnumMap<Column, Integer> colMap, List<Object> headers, Log log) {
+            this.range = range.range();
 
             final List<Record> rows = new ArrayList<>();
-            final List<List<Object>> values = range.getValues();
+            final List<List<Object>> values = range.values();
             for (int i = 1; i < values.size(); i++) {
                 List<Object> row = values.get(i);
                 rows.add(new Record(row));
@@ -564,7 +598,11 @@ public class SyncExtensionListMojo extends AbstractMojo {
             return rows.size();
         }
 
-        public void update(Comparator<Record> comparator) {
+        /**
+         * @param  comparator the order of the rows
+         * @return            the new content of this {@link Sheet} to pass to {@link SheetBackend#batchUpdate(List)}
+         */
+        public Range update(Comparator<Record> comparator) {
 
             markRemovedRows();
 
@@ -576,22 +614,12 @@ public class SyncExtensionListMojo extends AbstractMojo {
                     .map(r -> r.row)
                     .forEach(newValues::add);
 
-            range.setValues(newValues);
-
-            try {
-                service.spreadsheets().values()
-                        .update(spreadsheetId, range.getRange(), range)
-                        .setValueInputOption("USER_ENTERED")
-                        .execute();
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-
             if (!newSchemes.isEmpty()) {
                 log.info(
                         " - Added " + newSchemes.size() + " schemes: " + newSchemes.stream().collect(Collectors.joining(", ")));
             }
 
+            return new Range(range, newValues);
         }
 
         void markRemovedRows() {
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2020 CQ Maven Plugin
+ * project contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.l2x6.cq.maven.prod;
+
+import com.google.gson.Gson;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.l2x6.pom.tuner.PomTunerUtils;
+import org.l2x6.pom.tuner.model.Ga;
+
+/**
+ * Durations of integration test modules measured in some previous runs. Used for balancing the native test groups
+ * written to the Jenkinsfile.
+ * <p>
+ * The durations can be read from
+ * <ul>
+ * <li>A directory containing Surefire or Failsafe XML reports ({@code TEST-*.xml}), typically a copy of the source
+ * tree after a test run. The durations of all reports found under {@code <module-dir>/target} are summed up and
+ * stored under the {@code <module-dir>} path relative to the given directory, e.g.
+ * {@code integration-tests/foo}.</li>
+ * <li>A JSON file containing an object mapping test module {@code artifactId}s or module directory paths to
+ * durations in seconds.</li>
+ * <li>Any other file is read as CSV with the {@code artifactId} or module directory path in the first column and the
+ * duration in seconds in the second column. Empty lines, lines starting with {@code #} and lines having no number in
+ * the second column are ignored.</li>
+ * </ul>
+ */
+class TestDurations {
+    private static final TestDurations EMPTY = new TestDurations(Collections.emptyMap());
+
+    private final Map<String, Double> secondsByKey;
+
+    TestDurations(Map<String, Double> secondsByKey) {
+        this.secondsByKey = secondsByKey;
+    }
+
+    static TestDurations empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @param  path    a directory containing test reports or a JSON or CSV file; can be {@code null}
+     * @param  charset the encoding of the JSON or CSV file
+     * @return         a new {@link TestDurations} or {@link #empty()} if {@code path} is {@code null}
+     */
+    static TestDurations read(Path path, Charset charset) {
+        if (path == null) {
+            return EMPTY;
+        }
+        if (Files.isDirectory(path)) {
+            return readReports(path);
+        }
+        if (!Files.isRegularFile(path)) {
+            throw new IllegalStateException("Test durations file or directory " + path + " does not exist");
+        }
+        if (path.getFileName().toString().endsWith(".json")) {
+            return readJson(path, charset);
+        }
+        return readCsv(path, charset);
+    }
+
+    static TestDurations readJson(Path path, Charset charset) {
+        try (Reader r = Files.newBufferedReader(path, charset)) {
+            @SuppressWarnings("unchecked")
+            final Map<String, Object> json = new Gson().fromJson(r, Map.class);
+            final Map<String, Double> result = new TreeMap<>();
+            if (json != null) {
+                for (Entry<String, Object> en : json.entrySet()) {
+                    if (!(en.getValue() instanceof Number)) {
+                        throw new IllegalStateException("Expected a number of seconds for key " + en.getKey() + " in "
+                                + path + "; found " + en.getValue());
+                    }
+                    result.put(en.getKey(), ((Number) en.getValue()).doubleValue());
+                }
+            }
+            return new TestDurations(Collections.unmodifiableMap(result));
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read " + path, e);
+        }
+    }
+
+    static TestDurations readCsv(Path path, Charset charset) {
+        final List<String> lines;
+        try {
+            lines = Files.readAllLines(path, charset);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read " + path, e);
+        }
+        final Map<String, Double> result = new TreeMap<>();
+        for (String line : lines) {
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            final String[] columns = line.split("\\s*[,;\\t]\\s*");
+            if (columns.length >= 2) {
+                try {
+                    result.merge(columns[0], Double.parseDouble(columns[1]), Double::sum);
+                } catch (NumberFormatException e) {
+                    /* A header line */
+                }
+            }
+        }
+        return new TestDurations(Collections.unmodifiableMap(result));
+    }
+
+    static TestDurations readReports(Path baseDir) {
+        final Map<String, Double> result = new TreeMap<>();
+        try (Stream<Path> files = Files.walk(baseDir)) {
+            for (Path report : files
+                    .filter(p -> p.getFileName().toString().startsWith("TEST-")
+                            && p.getFileName().toString().endsWith(".xml"))
+                    .collect(Collectors.toList())) {
+                final Path moduleDir = findModuleDir(baseDir, report);
+                if (moduleDir != null) {
+                    final String key = PomTunerUtils.toUnixPath(baseDir.relativize(moduleDir).toString());
+                    result.merge(key, readReportTime(report), Double::sum);
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Could not walk " + baseDir, e);
+        }
+        return new TestDurations(Collections.unmodifiableMap(result));
+    }
+
+    static Path findModuleDir(Path baseDir, Path report) {
+        Path dir = report.getParent();
+        while (dir != null && dir.startsWith(baseDir)) {
+            if ("target".equals(dir.getFileName().toString())) {
+                return dir.getParent();
+            }
+            dir = dir.getParent();
+        }
+        return null;
+    }
+
+    static double readReportTime(Path report) {
+        try (InputStream in = Files.newInputStream(report)) {
+            final XMLInputFactory factory = XMLInputFactory.newInstance();
+            factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            final XMLStreamReader reader = factory.createXMLStreamReader(in);
+            try {
+                while (reader.hasNext()) {
+                    if (reader.next() == XMLStreamReader.START_ELEMENT) {
+                        /* The root testsuite element */
+                        final String time = reader.getAttributeValue(null, "time");
+                        return time == null ? 0.0d : Double.parseDouble(time.replace(",", ""));
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+            return 0.0d;
+        } catch (IOException | XMLStreamException | NumberFormatException e) {
+            throw new RuntimeException("Could not read the test time from " + report, e);
+        }
+    }
+
+    boolean isEmpty() {
+        return secondsByKey.isEmpty();
+    }
+
+    /**
+     * @param  test      the test module
+     * @param  moduleDir the path of the test module directory relative to the source tree root
+     * @return           the duration of the given test in seconds or {@code null} if not known
+     */
+    Double get(Ga test, String moduleDir) {
+        final Double result = secondsByKey.get(test.getArtifactId());
+        return result != null ? result : secondsByKey.get(moduleDir);
+    }
+
+}
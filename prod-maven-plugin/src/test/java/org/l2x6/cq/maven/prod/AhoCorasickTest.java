@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2020 CQ Maven Plugin
+ * project contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.l2x6.cq.maven.prod;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class AhoCorasickTest {
+
+    @Test
+    void findAll() {
+        final Map<String, List<String>> patterns = new LinkedHashMap<>();
+        patterns.put(".tod(", List.of("to-d", "tod"));
+        patterns.put(".to(", List.of("to"));
+        patterns.put(".log(", List.of("log"));
+        patterns.put("og(", List.of("og"));
+        patterns.put("", List.of("empty"));
+        final AhoCorasick<String> matcher = new AhoCorasick<>(patterns);
+
+        Assertions.assertThat(matcher.findAll("from(\"direct:a\").tod(\"b\").log(\"c\")"))
+                .containsExactly("to-d", "tod", "log", "og");
+        Assertions.assertThat(matcher.findAll(".to(")).containsExactly("to");
+        Assertions.assertThat(matcher.findAll(".t.to.tod")).isEmpty();
+        Assertions.assertThat(matcher.findAll("")).isEmpty();
+    }
+
+    @Test
+    void matchesNaiveSearch() {
+        final Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            final Map<String, List<String>> patterns = new LinkedHashMap<>();
+            for (int i = 0; i < 20; i++) {
+                final String pattern = randomString(random, 1 + random.nextInt(5));
+                patterns.computeIfAbsent(pattern, k -> new ArrayList<>()).add("p" + i);
+            }
+            final AhoCorasick<String> matcher = new AhoCorasick<>(patterns);
+            final String text = randomString(random, random.nextInt(300));
+
+            final Set<String> expected = new TreeSet<>();
+            for (Entry<String, List<String>> en : patterns.entrySet()) {
+                if (text.contains(en.getKey())) {
+                    expected.addAll(en.getValue());
+                }
+            }
+            Assertions.assertThat(new TreeSet<>(matcher.findAll(text))).as("Patterns in %s", text).isEqualTo(expected);
+        }
+    }
+
+    static String randomString(Random random, int length) {
+        final StringBuilder result = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            result.append("ab.(<".charAt(random.nextInt(5)));
+        }
+        return result.toString();
+    }
+
+}
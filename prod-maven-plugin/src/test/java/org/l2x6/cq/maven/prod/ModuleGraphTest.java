@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2020 CQ Maven Plugin
+ * project contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.l2x6.cq.maven.prod;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.l2x6.cq.test.utils.TestUtils;
+import org.l2x6.pom.tuner.MavenSourceTree;
+import org.l2x6.pom.tuner.MavenSourceTree.ActiveProfiles;
+import org.l2x6.pom.tuner.model.Ga;
+import org.l2x6.pom.tuner.model.Profile;
+
+public class ModuleGraphTest {
+
+    private static final Ga A = new Ga("org.acme", "a");
+    private static final Ga B = new Ga("org.acme", "b");
+    private static final Ga C = new Ga("org.acme", "c");
+    private static final Ga D = new Ga("org.acme", "d");
+    private static final Ga E = new Ga("org.acme", "e");
+    private static final Ga EXTERNAL = new Ga("org.other", "external");
+
+    /* a -> b -> c -> b (cycle), c -> d, e -> a, b -> external */
+    private static final Map<Ga, List<Ga>> EDGES = Map.of(
+            A, List.of(B),
+            B, List.of(C, EXTERNAL),
+            C, List.of(B, D),
+            D, List.of(),
+            E, List.of(A));
+
+    private static ModuleGraph graph() {
+        return new ModuleGraph(EDGES.keySet(), EDGES::get);
+    }
+
+    @Test
+    void reachable() {
+        final ModuleGraph graph = graph();
+        Assertions.assertThat(graph.reachable(A)).containsExactly(B, C, D);
+        /* b is a part of a cycle */
+        Assertions.assertThat(graph.reachable(B)).containsExactly(B, C, D);
+        Assertions.assertThat(graph.reachable(D)).isEmpty();
+        Assertions.assertThat(graph.reachable(E)).containsExactly(A, B, C, D);
+        Assertions.assertThat(graph.reachable(EXTERNAL)).isEmpty();
+    }
+
+    @Test
+    void closure() {
+        final ModuleGraph graph = graph();
+        Assertions.assertThat(graph.closure(List.of(D))).containsExactly(D);
+        Assertions.assertThat(graph.closure(List.of(C, EXTERNAL))).containsExactly(B, C, D);
+        Assertions.assertThat(graph.closure(List.of(E))).containsExactly(A, B, C, D, E);
+        Assertions.assertThat(graph.closure(Collections.emptyList())).isEmpty();
+    }
+
+    @Test
+    void matchesNaiveTraversal() {
+        final ModuleGraph graph = graph();
+        for (Ga ga : EDGES.keySet()) {
+            Assertions.assertThat(graph.reachable(ga)).isEqualTo(naiveReachable(ga));
+        }
+    }
+
+    static Set<Ga> naiveReachable(Ga start) {
+        final Set<Ga> result = new TreeSet<>();
+        Collection<Ga> frontier = EDGES.get(start);
+        while (!frontier.isEmpty()) {
+            frontier = frontier.stream()
+                    .filter(EDGES::containsKey)
+                    .filter(result::add)
+                    .flatMap(ga -> EDGES.get(ga).stream())
+                    .collect(Collectors.toList());
+        }
+        return result;
+    }
+
+    @Test
+    void bits() {
+        final ModuleGraph graph = graph();
+        final Set<Ga> gas = Stream.of(A, D, EXTERNAL).collect(Collectors.toSet());
+        Assertions.assertThat(graph.toGas(graph.toBits(gas))).containsExactly(A, D);
+    }
+
+    @Test
+    void requiredModules() throws IOException {
+        final Path projectDir = TestUtils.createProjectFromTemplate("prod-excludes", "requiredModules");
+        /* The mixed test modules refer to modules that do not exist in the template */
+        final Path productPom = projectDir.resolve("product/pom.xml");
+        Files.writeString(productPom, Files.readString(productPom, StandardCharsets.UTF_8)
+                .replace("<module>integration-tests-mixed-jvm</module>", "")
+                .replace("<module>integration-tests-mixed-native</module>", ""), StandardCharsets.UTF_8);
+        final MavenSourceTree tree = MavenSourceTree.of(projectDir.resolve("pom.xml"), StandardCharsets.UTF_8);
+        final Predicate<Profile> profiles = ActiveProfiles.of();
+        final ModuleGraph graph = ModuleGraph.requiredModules(tree, profiles);
+        for (Ga ga : tree.getModulesByGa().keySet()) {
+            Assertions.assertThat(graph.closure(List.of(ga)))
+                    .as("Modules required by %s", ga)
+                    .isEqualTo(new TreeSet<>(tree.findRequiredModules(List.of(ga), profiles)));
+        }
+        final List<Ga> all = List.copyOf(tree.getModulesByGa().keySet());
+        final List<Ga> firstHalf = all.subList(0, all.size() / 2);
+        final List<Ga> secondHalf = all.subList(all.size() / 2, all.size());
+        Assertions.assertThat(graph.toGas(graph.addToClosure(graph.closureBits(firstHalf), secondHalf)))
+                .isEqualTo(new TreeSet<>(tree.findRequiredModules(all, profiles)));
+    }
+
+}
@@ -22,9 +22,15 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.shared.utils.io.DirectoryScanner;
+import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.l2x6.cq.test.utils.TestUtils;
 
@@ -59,6 +65,18 @@ public class ProdExcludesMojoTest {
         TestUtils.assertTreesMatch(Paths.get("src/test/expected/" + testName), mojo.basedir.toPath());
     }
 
+    @Test
+    void plan() throws MojoExecutionException, MojoFailureException, IOException {
+        final String testName = "prod-excludes-plan";
+        final ProdExcludesMojo mojo = initMojo(TestUtils.createProjectFromTemplate("prod-excludes", testName));
+        mojo.localRepository = Paths.get("src/test/maven-repos/initial").toAbsolutePath().normalize().toString();
+        mojo.plan = true;
+        mojo.execute();
+
+        /* The source tree must stay untouched and the work copy must be the same as when checking */
+        TestUtils.assertTreesMatch(Paths.get("src/test/expected/check-initial"), mojo.basedir.toPath());
+    }
+
     @Test
     void newSupportedExtension() throws MojoExecutionException, MojoFailureException,
             IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException, IOException {
@@ -106,4 +124,41 @@ public class ProdExcludesMojoTest {
                 generatedDir);
     }
 
+    @Test
+    void distributeByDuration() {
+        final ProdExcludesMojo mojo = new ProdExcludesMojo();
+        final ProdExcludesMojo.TestCategoryTests categoryTests = mojo.new TestCategoryTests(null, 3,
+                ProdExcludesMojo.TestCategory.PURE_PRODUCT, TestDurations.empty());
+        final List<ProdExcludesMojo.TestGroup> groups = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            groups.add(new ProdExcludesMojo.TestGroup(i, ProdExcludesMojo.TestCategory.PURE_PRODUCT));
+        }
+        final Map<String, Double> durations = new TreeMap<>();
+        durations.put("../../integration-tests/a", 10.0d);
+        durations.put("../../integration-tests/b", 9.0d);
+        durations.put("../../integration-tests/c", 8.0d);
+        durations.put("../../integration-tests/d", 7.0d);
+        durations.put("../../integration-tests/e", 6.0d);
+        durations.put("../../integration-tests/f", 5.0d);
+        durations.put("../../integration-tests/g", 4.0d);
+
+        categoryTests.distributeByDuration(durations, groups);
+
+        /* Longest first, each to the group having the smallest sum so far */
+        Assertions.assertThat(groups.get(0).getTests())
+                .containsExactly("../../integration-tests/a", "../../integration-tests/f", "../../integration-tests/g");
+        Assertions.assertThat(groups.get(1).getTests())
+                .containsExactly("../../integration-tests/b", "../../integration-tests/e");
+        Assertions.assertThat(groups.get(2).getTests())
+                .containsExactly("../../integration-tests/c", "../../integration-tests/d");
+
+        final double[] sums = groups.stream()
+                .mapToDouble(g -> g.getTests().stream().mapToDouble(durations::get).sum())
+                .toArray();
+        Assertions.assertThat(sums).containsExactly(19.0d, 15.0d, 15.0d);
+        /* No group exceeds the others by more than the shortest test */
+        Assertions.assertThat(Arrays.stream(sums).max().getAsDouble() - Arrays.stream(sums).min().getAsDouble())
+                .isLessThanOrEqualTo(4.0d);
+    }
+
 }
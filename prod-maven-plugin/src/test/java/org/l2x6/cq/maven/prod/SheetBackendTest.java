@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2020 CQ Maven Plugin
+ * project contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.l2x6.cq.maven.prod;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.camel.tooling.model.Kind;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.l2x6.cq.common.CatalogIndex;
+import org.l2x6.cq.maven.prod.SheetBackend.Range;
+import org.l2x6.cq.maven.prod.SyncExtensionListMojo.Column;
+import org.l2x6.cq.maven.prod.SyncExtensionListMojo.NativeSupport;
+import org.l2x6.cq.maven.prod.SyncExtensionListMojo.Sheet;
+import org.l2x6.cq.test.utils.TestUtils;
+
+public class SheetBackendTest {
+
+    @Test
+    void jsonFile() throws IOException {
+        final Path file = TestUtils.newProjectDir("sheet-backend-json-file").resolve("sheets.json");
+        Files.writeString(file, "{\n"
+                + "  \"Components!A1:O\": [[\"Name\", \"Scheme\"], [\"Foo\", \"foo\"]],\n"
+                + "  \"EIPs!A1:O\": [[\"Name\", \"Scheme\"]]\n"
+                + "}\n", StandardCharsets.UTF_8);
+        final SheetBackend backend = SheetBackend.jsonFile(file);
+
+        final List<Range> ranges = backend.batchGet(List.of("EIPs!A1:O", "Components!A1:O"));
+        Assertions.assertThat(ranges).containsExactly(
+                new Range("EIPs!A1:O", List.of(List.of("Name", "Scheme"))),
+                new Range("Components!A1:O", List.of(List.of("Name", "Scheme"), List.of("Foo", "foo"))));
+
+        backend.batchUpdate(List.of(new Range("EIPs!A1:O", List.of(List.of("Name", "Scheme"), List.of("Bar", "bar")))));
+        Assertions.assertThat(backend.batchGet(List.of("Components!A1:O", "EIPs!A1:O"))).containsExactly(
+                new Range("Components!A1:O", List.of(List.of("Name", "Scheme"), List.of("Foo", "foo"))),
+                new Range("EIPs!A1:O", List.of(List.of("Name", "Scheme"), List.of("Bar", "bar"))));
+
+        Assertions.assertThatThrownBy(() -> backend.batchGet(List.of("Languages!A1:O")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Languages!A1:O");
+    }
+
+    @Test
+    void emptyJsonFile() throws IOException {
+        final Path file = Files.createFile(TestUtils.newProjectDir("sheet-backend-empty-json-file").resolve("sheets.json"));
+        final SheetBackend backend = SheetBackend.jsonFile(file);
+        Assertions.assertThatThrownBy(() -> backend.batchGet(List.of("EIPs!A1:O")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("EIPs!A1:O");
+
+        backend.batchUpdate(List.of(new Range("EIPs!A1:O", List.of(List.of("Name", "Scheme")))));
+        Assertions.assertThat(backend.batchGet(List.of("EIPs!A1:O")))
+                .containsExactly(new Range("EIPs!A1:O", List.of(List.of("Name", "Scheme"))));
+    }
+
+    @Test
+    void syncSheet() throws IOException {
+        final Path file = TestUtils.newProjectDir("sheet-backend-sync-sheet").resolve("sheets.json");
+        final String range = Sheet.rangeSpec(Kind.component);
+        Files.writeString(file, "{\n"
+                + "  \"" + range + "\": [\n"
+                + "    [\"Priority\", \"Name\", \"Scheme\", \"Camel artifactId\", \"CQ artifactId\", \"Kind\","
+                + " \"Deprecated\", \"CQ Community\", \"Community issue\"],\n"
+                + "    [1, \"Foo\", \"foo\", \"camel-foo\", \"\", \"component\", \"FALSE\", \"n/a\", \"#123\"],\n"
+                + "    [2, \"Old\", \"old\", \"camel-old\", \"\", \"component\", \"FALSE\", \"JVM\", \"\"]\n"
+                + "  ]\n"
+                + "}\n", StandardCharsets.UTF_8);
+        final SheetBackend backend = SheetBackend.jsonFile(file);
+
+        final Sheet sheet = Sheet.read(backend.batchGet(List.of(range)).get(0), Kind.component, new SystemStreamLog(),
+                Column.artifactModelColumns());
+        final Map<Kind, Map<String, NativeSupport>> nativeSupportsMap = new HashMap<>();
+        nativeSupportsMap.put(Kind.component, new HashMap<>());
+        sheet.update("foo",
+                new CatalogIndex.Entry(Kind.component, "foo", "Foo", "1.0.0", "core", "camel-foo", null, true, false),
+                new CatalogIndex.Entry(Kind.component, "foo", "Foo", "1.0.0", "core", "camel-quarkus-foo", null, true,
+                        false),
+                nativeSupportsMap);
+        sheet.update("bar",
+                new CatalogIndex.Entry(Kind.component, "bar", "Bar", "2.0.0", "core", "camel-bar", null, false, true),
+                null,
+                nativeSupportsMap);
+        backend.batchUpdate(List.of(sheet.update(
+                Comparator.comparing(Sheet.Record::getArtifactIdBase).thenComparing(Sheet.Record::getScheme))));
+
+        final List<List<Object>> rows = backend.batchGet(List.of(range)).get(0).values();
+        Assertions.assertThat(rows).hasSize(4);
+        Assertions.assertThat(rows.get(1)).containsExactly("", "Bar", "bar", "camel-bar", "", "component", "TRUE", "n/a", "");
+        Assertions.assertThat(rows.get(2).subList(1, 9))
+                .containsExactly("Foo", "foo", "camel-foo", "camel-quarkus-foo", "component", "FALSE", "Native", "#123");
+        Assertions.assertThat(rows.get(3).subList(1, 9))
+                .containsExactly("Old", "old", "camel-old", "", "component", "FALSE", "Removed", "");
+        Assertions.assertThat(nativeSupportsMap.get(Kind.component))
+                .containsEntry("foo", NativeSupport.Native)
+                .containsEntry("bar", NativeSupport.na);
+
+        /* Numbers are written back as they were */
+        final String json = Files.readString(file, StandardCharsets.UTF_8);
+        Assertions.assertThat(json).contains("1,").contains("2,").doesNotContain("1.0,").doesNotContain("2.0,");
+    }
+
+}
@@ -16,7 +16,10 @@
  */
 package org.l2x6.cq.maven.prod;
 
+import com.sun.net.httpserver.HttpServer;
 import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
@@ -24,6 +27,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -31,7 +35,11 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 import org.apache.commons.io.FileUtils;
 import org.apache.maven.model.Dependency;
 import org.apache.maven.model.Model;
@@ -41,6 +49,7 @@ import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.artifact.DefaultArtifact;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.l2x6.cq.common.CqCommonUtils;
@@ -193,6 +202,120 @@ class SyncExamplesFromUpstreamMojoTest {
         }
     }
 
+    @Test
+    void analyzeDependencies() throws Exception {
+        Set<String> analyzedPoms = ConcurrentHashMap.newKeySet();
+        SyncExamplesFromUpstreamMojo mojo = new SyncExamplesFromUpstreamMojo() {
+            @Override
+            Set<GAV> getDependencies(Path pomXml) {
+                analyzedPoms.add(UPSTREAM_EXAMPLES_DIR.relativize(pomXml).toString());
+                Model model = CqCommonUtils.readPom(pomXml, StandardCharsets.UTF_8);
+                return Set.of(new GAV(new DefaultArtifact("org.acme:" + model.getArtifactId() + ":1.0.0"), false));
+            }
+        };
+        mojo.syncFromDir = UPSTREAM_EXAMPLES_DIR.toFile();
+        mojo.projectExcludes = Set.of("bar");
+        mojo.parallelism = 4;
+
+        Map<String, Set<SyncExamplesFromUpstreamMojo.GAV>> projectDependencies = mojo.analyzeDependencies();
+
+        assertEquals(List.of("baz", "baz/baz-1", "foo"), List.copyOf(projectDependencies.keySet()));
+        assertEquals(Set.of(Path.of("baz/pom.xml").toString(), Path.of("baz/baz-1/pom.xml").toString(),
+                Path.of("foo/pom.xml").toString()), analyzedPoms);
+        assertEquals(1, projectDependencies.get("foo").size());
+    }
+
+    @Test
+    void extractZipFileIncrementally() throws Exception {
+        SyncExamplesFromUpstreamMojo mojo = initMojo("3.8.5.redhat-00003");
+        mojo.camelQuarkusPlatformVersion = "${quarkus.platform.version}";
+        Path zipFile = mojo.getArchivePath();
+        Path fooReadme = UPSTREAM_EXAMPLES_DIR.resolve("foo/README.adoc");
+        Path fooPom = UPSTREAM_EXAMPLES_DIR.resolve("foo/pom.xml");
+        FileTime readmeModified = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(fooReadme, readmeModified);
+
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(zipFile))) {
+            out.putNextEntry(new ZipEntry("camel-quarkus-examples-3.8.x/"));
+            out.putNextEntry(new ZipEntry("camel-quarkus-examples-3.8.x/foo/README.adoc"));
+            out.write(Files.readAllBytes(fooReadme));
+            out.putNextEntry(new ZipEntry("camel-quarkus-examples-3.8.x/foo/pom.xml"));
+            out.write("<project/>".getBytes(StandardCharsets.UTF_8));
+            out.putNextEntry(new ZipEntry("camel-quarkus-examples-3.8.x/qux/README.adoc"));
+            out.write("= Qux".getBytes(StandardCharsets.UTF_8));
+        }
+        mojo.extractZipFile();
+
+        assertEquals(readmeModified, Files.getLastModifiedTime(fooReadme));
+        assertEquals("<project/>", Files.readString(fooPom, StandardCharsets.UTF_8));
+        assertEquals("= Qux", Files.readString(UPSTREAM_EXAMPLES_DIR.resolve("qux/README.adoc"), StandardCharsets.UTF_8));
+        assertFalse(Files.exists(UPSTREAM_EXAMPLES_DIR.resolve("foo/src")));
+        assertFalse(Files.exists(UPSTREAM_EXAMPLES_DIR.resolve("bar")));
+        assertFalse(Files.exists(UPSTREAM_EXAMPLES_DIR.resolve("baz")));
+    }
+
+    @Test
+    void extractZipFileWithNonNormalizedTmpDir() throws Exception {
+        SyncExamplesFromUpstreamMojo mojo = initMojo("3.8.5.redhat-00003");
+        mojo.tmpDir = UPSTREAM_EXAMPLES_DIR.resolve("foo/../..").toFile();
+        Path zipFile = mojo.getArchivePath();
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(zipFile))) {
+            out.putNextEntry(new ZipEntry("camel-quarkus-examples-3.8.x/"));
+            out.putNextEntry(new ZipEntry("camel-quarkus-examples-3.8.x/qux/README.adoc"));
+            out.write("= Qux".getBytes(StandardCharsets.UTF_8));
+        }
+        mojo.extractZipFile();
+
+        assertEquals("= Qux", Files.readString(UPSTREAM_EXAMPLES_DIR.resolve("qux/README.adoc"), StandardCharsets.UTF_8));
+        assertFalse(Files.exists(UPSTREAM_EXAMPLES_DIR.resolve("foo")));
+    }
+
+    @Test
+    void downloadGitHubBranchArchiveConditionally() throws Exception {
+        byte[] archive = "archive".getBytes(StandardCharsets.UTF_8);
+        AtomicInteger downloads = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            if ("\"v1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+            } else {
+                downloads.incrementAndGet();
+                exchange.getResponseHeaders().add("ETag", "\"v1\"");
+                exchange.sendResponseHeaders(200, archive.length);
+                exchange.getResponseBody().write(archive);
+            }
+            exchange.close();
+        });
+        server.start();
+        try {
+            String baseUrl = "http://localhost:" + server.getAddress().getPort() + "/%s.zip";
+            SyncExamplesFromUpstreamMojo mojo = new SyncExamplesFromUpstreamMojo() {
+                @Override
+                String getGitHubDownloadBaseUrl() {
+                    return baseUrl;
+                }
+            };
+            mojo.quarkusPlatformVersion = "3.8.5.redhat-00003";
+            mojo.camelQuarkusPlatformVersion = "${quarkus.platform.version}";
+            mojo.tmpDir = TMP_DIR.toFile();
+            mojo.isUseCache = true;
+
+            mojo.downloadGitHubBranchArchive();
+            assertEquals(1, downloads.get());
+            assertEquals("archive", Files.readString(mojo.getArchivePath(), StandardCharsets.UTF_8));
+            assertEquals("\"v1\"", Files.readString(mojo.getArchiveETagPath(), StandardCharsets.UTF_8));
+
+            mojo.downloadGitHubBranchArchive();
+            assertEquals(1, downloads.get());
+
+            mojo.isUseCache = false;
+            mojo.downloadGitHubBranchArchive();
+            assertEquals(2, downloads.get());
+        } finally {
+            server.stop(0);
+        }
+    }
+
     private static SyncExamplesFromUpstreamMojo initMojo(String quarkusPlatformVersion) {
         SyncExamplesFromUpstreamMojo mojo = new SyncExamplesFromUpstreamMojo();
         mojo.quarkusPlatformVersion = quarkusPlatformVersion;
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2020 CQ Maven Plugin
+ * project contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.l2x6.cq.maven.prod;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.l2x6.cq.test.utils.TestUtils;
+import org.l2x6.pom.tuner.model.Ga;
+
+public class TestDurationsTest {
+
+    private static final Ga FOO = new Ga("org.acme", "acme-integration-test-foo");
+    private static final Ga BAR = new Ga("org.acme", "acme-integration-test-bar");
+
+    @Test
+    void csv() throws IOException {
+        final Path file = TestUtils.newProjectDir("test-durations-csv").resolve("durations.csv");
+        Files.writeString(file, "# durations\nmodule,seconds\nacme-integration-test-foo, 12.5\n\nintegration-tests/bar;3\n",
+                StandardCharsets.UTF_8);
+        final TestDurations durations = TestDurations.read(file, StandardCharsets.UTF_8);
+        Assertions.assertThat(durations.get(FOO, "integration-tests/foo")).isEqualTo(12.5d);
+        Assertions.assertThat(durations.get(BAR, "integration-tests/bar")).isEqualTo(3.0d);
+        Assertions.assertThat(durations.get(BAR, "integration-tests/baz")).isNull();
+    }
+
+    @Test
+    void json() throws IOException {
+        final Path file = TestUtils.newProjectDir("test-durations-json").resolve("durations.json");
+        Files.writeString(file, "{\"acme-integration-test-foo\": 7, \"integration-tests/bar\": 1.5}", StandardCharsets.UTF_8);
+        final TestDurations durations = TestDurations.read(file, StandardCharsets.UTF_8);
+        Assertions.assertThat(durations.get(FOO, "integration-tests/foo")).isEqualTo(7.0d);
+        Assertions.assertThat(durations.get(BAR, "integration-tests/bar")).isEqualTo(1.5d);
+    }
+
+    @Test
+    void jsonNonNumeric() throws IOException {
+        final Path file = TestUtils.newProjectDir("test-durations-json-non-numeric").resolve("durations.json");
+        Files.writeString(file, "{\"acme-integration-test-foo\": 7, \"integration-tests/bar\": \"slow\"}",
+                StandardCharsets.UTF_8);
+        Assertions.assertThatThrownBy(() -> TestDurations.read(file, StandardCharsets.UTF_8))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("integration-tests/bar")
+                .hasMessageContaining(file.toString());
+
+        Files.writeString(file, "{\"acme-integration-test-foo\": null}", StandardCharsets.UTF_8);
+        Assertions.assertThatThrownBy(() -> TestDurations.read(file, StandardCharsets.UTF_8))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("acme-integration-test-foo")
+                .hasMessageContaining(file.toString());
+    }
+
+    @Test
+    void reports() throws IOException {
+        final Path baseDir = TestUtils.newProjectDir("test-durations-reports");
+        final Path reportsDir = baseDir.resolve("integration-tests/foo/target/failsafe-reports");
+        Files.createDirectories(reportsDir);
+        Files.writeString(reportsDir.resolve("TEST-org.acme.FooIT.xml"),
+                "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<testsuite name=\"org.acme.FooIT\" time=\"1,002.5\"/>",
+                StandardCharsets.UTF_8);
+        Files.writeString(reportsDir.resolve("TEST-org.acme.FooTest.xml"),
+                "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<testsuite name=\"org.acme.FooTest\" time=\"2\"/>",
+                StandardCharsets.UTF_8);
+        final TestDurations durations = TestDurations.read(baseDir, StandardCharsets.UTF_8);
+        Assertions.assertThat(durations.isEmpty()).isFalse();
+        Assertions.assertThat(durations.get(FOO, "integration-tests/foo")).isEqualTo(1004.5d);
+        Assertions.assertThat(durations.get(BAR, "integration-tests/bar")).isNull();
+    }
+
+    @Test
+    void empty() {
+        Assertions.assertThat(TestDurations.read(null, StandardCharsets.UTF_8).isEmpty()).isTrue();
+    }
+
+}